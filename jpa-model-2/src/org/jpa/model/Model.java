@@ -1,13 +1,32 @@
 package org.jpa.model;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.regex.Matcher;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.*;
 
@@ -215,6 +234,89 @@ public class Model<E> {
 					IllegalArgumentException {
 				build(model, statement, null, params);
 			}
+
+			/**
+			 * สร้างรูปแบบโครงสร้างของคำสั่ง JPQL
+			 * สำหรับใช้เป็น Key ในการเก็บคำสั่งที่สร้างแล้วไว้ใน
+			 * {@link StatementCache} (คำสั่งที่มีรูปแบบโครงสร้างเดียวกัน
+			 * ต้องสร้างคำสั่ง JPQL ที่เหมือนกันเสมอ ต่างกันเพียงค่าของ
+			 * Parameter เท่านั้น)
+			 *
+			 * @param key
+			 *            {@link StringBuilder}
+			 *            สำหรับใช้ในการสร้างรูปแบบโครงสร้างของคำสั่ง
+			 * @return true หากสามารถระบุรูปแบบโครงสร้างของคำสั่งได้, false
+			 *         หากไม่สามารถระบุได้ (คำสั่งจะถูกสร้างใหม่ทุกครั้ง)
+			 * @see #bind(Map, List)
+			 */
+			public default boolean shape(StringBuilder key) {
+				return false;
+			}
+
+			/**
+			 * ผูกค่า Parameter ของคำสั่ง โดยไม่ต้องสร้างคำสั่ง JPQL
+			 * (ใช้แทน {@link #build(Model, StringBuilder, Map, List)}
+			 * เมื่อพบคำสั่งใน {@link StatementCache} แล้ว) โดยต้องผูกค่า
+			 * Parameter ในลักษณะและลำดับเดียวกันกับการสร้างคำสั่ง
+			 *
+			 * @param named
+			 *            Parameter แบบตั้งชื่อ
+			 * @param index
+			 *            Parameter แบบลำดับ
+			 * @throws IllegalArgumentException
+			 *             <code>named</code> หรือ <code>index</code> ไม่ถูกต้อง
+			 * @throws UnsupportedOperationException
+			 *             ไม่สามารถระบุรูปแบบโครงสร้างของคำสั่งได้
+			 * @see #shape(StringBuilder)
+			 */
+			public default void bind(
+					Map<String, Object> named, List<Object> index)
+					throws IllegalArgumentException,
+					UnsupportedOperationException {
+				throw new UnsupportedOperationException();
+			}
+
+			/**
+			 * สร้างรูปแบบโครงสร้างของคำสั่ง JPQL ตาม {@link Model}
+			 * ที่จะสร้างคำสั่ง (ใช้เมื่อคำสั่งที่สร้างขึ้นอยู่กับการตั้งค่าของ
+			 * {@link Model#factory} เช่น {@link Factory#stable()})
+			 *
+			 * @param model
+			 *            {@link Model} ที่ต้องสร้างคำสั่ง (null : ไม่ระบุ)
+			 * @param key
+			 *            {@link StringBuilder}
+			 *            สำหรับใช้ในการสร้างรูปแบบโครงสร้างของคำสั่ง
+			 * @return true หากสามารถระบุรูปแบบโครงสร้างของคำสั่งได้
+			 * @see #shape(StringBuilder)
+			 */
+			public default boolean shape(Model<?> model, StringBuilder key) {
+				return shape(key);
+			}
+
+			/**
+			 * ผูกค่า Parameter ของคำสั่งตาม {@link Model} ที่จะสร้างคำสั่ง
+			 * โดยต้องผูกค่าในลักษณะเดียวกับ
+			 * {@link #shape(Model, StringBuilder)}
+			 *
+			 * @param model
+			 *            {@link Model} ที่ต้องสร้างคำสั่ง (null : ไม่ระบุ)
+			 * @param named
+			 *            Parameter แบบตั้งชื่อ
+			 * @param index
+			 *            Parameter แบบลำดับ
+			 * @throws IllegalArgumentException
+			 *             <code>named</code> หรือ <code>index</code> ไม่ถูกต้อง
+			 * @throws UnsupportedOperationException
+			 *             ไม่สามารถระบุรูปแบบโครงสร้างของคำสั่งได้
+			 * @see #bind(Map, List)
+			 */
+			public default void bind(Model<?> model,
+					Map<String, Object> named,
+					List<Object> index)
+					throws IllegalArgumentException,
+					UnsupportedOperationException {
+				bind(named, index);
+			}
 		}
 
 		/**
@@ -252,7 +354,7 @@ public class Model<E> {
 			 * @return Class ของผลลัพธ์ของคำสั่ง
 			 */
 			public default Class<S> clazz() {
-				return Generic.$(this, Selector.class, "S");
+				return Cast.$(selected.get(getClass()));
 			}
 
 			/**
@@ -361,6 +463,193 @@ public class Model<E> {
 			}
 		}
 
+		/**
+		 * Class <code>Model.Factory.Placeholders</code> เป็น Class
+		 * สำหรับเก็บตำแหน่งของ Parameter แบบตั้งชื่อ (":name") และแบบลำดับ ("?"
+		 * หรือ "?n") ในข้อความคำสั่ง ซึ่งแยกไว้เพียงครั้งเดียวต่อข้อความ
+		 * และใช้ร่วมกันระหว่าง {@link Logic}, {@link Model#having(CharSequence,
+		 * Object...)} และ {@link Model#sub(CharSequence, Object...)}
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 */
+		protected static final class Placeholders {
+			/**
+			 * ผลการแยกข้อความที่เคยเรียกใช้แล้ว (สูงสุด 1024 ข้อความ)
+			 *
+			 * @see #of(CharSequence)
+			 */
+			private static final ConcurrentHashMap<String,
+					Placeholders> parsed = new ConcurrentHashMap<>();
+			/**
+			 * ข้อความคำสั่ง
+			 */
+			protected final String text;
+			/**
+			 * ตำแหน่งเริ่มต้นและสิ้นสุดของแต่ละ Parameter (คู่ละ 2 ช่อง)
+			 */
+			private final int[] bounds;
+			/**
+			 * ชื่อของ Parameter แบบตั้งชื่อ (null หากเป็นแบบลำดับ)
+			 */
+			private final String[] names;
+			/**
+			 * ชื่อของ Parameter แบบตั้งชื่อตัวแรก (null หากไม่มี)
+			 */
+			private final String named;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Placeholders} Object
+			 *
+			 * @param text
+			 *            {@link #text}
+			 */
+			private Placeholders(String text) {
+				int[] bounds = new int[8];
+				String[] names = new String[4];
+				String named = null;
+				int size = 0;
+				for (int i = 0, length = text.length(); i < length; i++) {
+					char c = text.charAt(i);
+					int end;
+					if (c == '?') {
+						for (end = i + 1; end < length
+								&& isDigit(text.charAt(end)); end++);
+					} else if (c == ':' && i + 1 < length
+							&& isPart(text.charAt(i + 1))) {
+						for (end = i + 2; end < length
+								&& isPart(text.charAt(end)); end++);
+					} else continue;
+					if (size == names.length) {
+						bounds = Arrays.copyOf(bounds, size << 2);
+						names = Arrays.copyOf(names, size << 1);
+					}
+					bounds[size << 1] = i;
+					bounds[(size << 1) + 1] = end;
+					if (c == ':') {
+						names[size] = text.substring(i + 1, end);
+						if (named == null) {
+							named = names[size];
+						}
+					}
+					size++;
+					i = end - 1;
+				}
+				this.text = text;
+				this.bounds = Arrays.copyOf(bounds, size << 1);
+				this.names = Arrays.copyOf(names, size);
+				this.named = named;
+			}
+
+			/**
+			 * เรียก {@link Placeholders} ของข้อความที่ระบุ
+			 * โดยใช้ผลการแยกเดิมหากเคยเรียกใช้แล้ว
+			 *
+			 * @param text
+			 *            ข้อความคำสั่ง
+			 * @return {@link Placeholders} ของ <code>text</code>
+			 * @throws NullPointerException
+			 *             <code>text</code> เป็น null
+			 */
+			public static Placeholders of(CharSequence text)
+					throws NullPointerException {
+				String key = text.toString();
+				Placeholders placeholders = parsed.get(key);
+				if (placeholders == null) {
+					placeholders = new Placeholders(key);
+					if (parsed.size() >= 1024) {
+						parsed.clear();
+					}
+					parsed.put(key, placeholders);
+				}
+				return placeholders;
+			}
+
+			private static boolean isDigit(char c) {
+				return c >= '0' && c <= '9';
+			}
+
+			private static boolean isPart(char c) {
+				return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z'
+						|| isDigit(c) || c == '_' || c == '$';
+			}
+
+			/**
+			 * จำนวน Parameter ในข้อความ
+			 *
+			 * @return จำนวน Parameter
+			 */
+			public int size() {
+				return names.length;
+			}
+
+			/**
+			 * ชื่อของ Parameter ณ ลำดับที่ระบุ
+			 *
+			 * @param i
+			 *            ลำดับของ Parameter
+			 * @return ชื่อ Parameter (ไม่รวม ":") หรือ null
+			 *         หากเป็น Parameter แบบลำดับ
+			 */
+			public String name(int i) {
+				return names[i];
+			}
+
+			/**
+			 * ชื่อของ Parameter แบบตั้งชื่อตัวแรกในข้อความ
+			 *
+			 * @return ชื่อ Parameter (ไม่รวม ":") หรือ null หากไม่มี
+			 */
+			public String named() {
+				return named;
+			}
+
+			/**
+			 * ลำดับที่ระบุไว้ใน Parameter แบบลำดับ ("?n")
+			 *
+			 * @param i
+			 *            ลำดับของ Parameter
+			 * @return n หรือ -1 หากไม่ได้ระบุ หรือเป็น Parameter แบบตั้งชื่อ
+			 */
+			public int number(int i) {
+				int start = bounds[i << 1] + 1, end = bounds[(i << 1) + 1];
+				if (names[i] != null || start == end) return -1;
+				int number = 0;
+				for (; start < end; start++) {
+					number = number * 10 + text.charAt(start) - '0';
+				}
+				return number;
+			}
+
+			/**
+			 * เพิ่มข้อความลงใน <code>out</code>
+			 * โดยแทนที่ Parameter แบบลำดับแต่ละตัวด้วยผลจาก
+			 * <code>replace</code>
+			 *
+			 * @param out
+			 *            {@link StringBuilder} ที่ต้องการเพิ่มข้อความ
+			 * @param replace
+			 *            Functional Interface ที่รับ {@link #number(int)}
+			 *            ของ Parameter และคืนข้อความที่ใช้แทน (null :
+			 *            คงข้อความเดิม)
+			 * @return <code>out</code>
+			 */
+			public StringBuilder indexed(
+					StringBuilder out, IntFunction<CharSequence> replace) {
+				int last = 0;
+				for (int i = 0; i < names.length; i++) {
+					if (names[i] != null) continue;
+					CharSequence replaced = replace.apply(number(i));
+					if (replaced != null) {
+						out.append(text, last, bounds[i << 1]).append(replaced);
+						last = bounds[(i << 1) + 1];
+					}
+				}
+				return out.append(text, last, text.length());
+			}
+		}
+
 		/**
 		 * Class <code>Model.Factory.Logic</code> เป็น Class
 		 * สำหรับสร้างเกณฑ์หรือเงื่อนไขในการระบุข้อมูลในฐานข้อมูล
@@ -380,6 +669,11 @@ public class Model<E> {
 			 * ชื่อ Parameter ที่จะกำหนดในการสร้าง {@link Criteria}
 			 */
 			protected final String name;
+			/**
+			 * ระบุว่า {@link #condition} ถูกกำหนดจากรูปแบบของ
+			 * {@link Pair#value value} ("LIKE" หรือ "=") แทนการระบุโดยตรง
+			 */
+			protected final boolean implicit;
 
 			/**
 			 * Constructor สำหรับสร้าง {@link Logic} Object
@@ -402,10 +696,11 @@ public class Model<E> {
 				super(field, value);
 				if (value == Void.class || value == void.class) {
 					this.condition = this.name = null;
+					this.implicit = false;
 				} else {
-					if (condition == null || condition.isEmpty()) {
-						if (value instanceof String
-								&& ((String) value).matches("%.+|.+%")) {
+					this.implicit = condition == null || condition.isEmpty();
+					if (implicit) {
+						if (value instanceof String && isLike((String) value)) {
 							this.condition = "LIKE";
 						} else {
 							this.condition = "=";
@@ -431,6 +726,24 @@ public class Model<E> {
 			 */
 			private void iput(Map<String, Object> params, String name)
 					throws IllegalArgumentException {
+				iput(params, name, value);
+			}
+
+			/**
+			 * เพิ่มค่าที่ระบุลงใน Parameter (แบบ Naming)
+			 *
+			 * @param params
+			 *            Parameter ที่ต้องการเพิ่มค่าลงไป
+			 * @param name
+			 *            ชื่อ Parameter
+			 * @param value
+			 *            ค่าของ Parameter
+			 * @throws IllegalArgumentException
+			 *             ชื่อ Parameter ซ้ำกับชื่อ Parameter ตัวอื่น
+			 */
+			private static void iput(
+					Map<String, Object> params, String name, Object value)
+					throws IllegalArgumentException {
 				if (value == null) {
 					if (!params.containsKey(name)) {
 						params.put(name, null);
@@ -444,6 +757,181 @@ public class Model<E> {
 				}
 			}
 
+			/**
+			 * เรียกชื่อ Parameter แบบตั้งชื่อ (":name") ตัวแรกในข้อความที่ระบุ
+			 *
+			 * @param text
+			 *            ข้อความที่ต้องการค้นหาชื่อ Parameter
+			 * @return ชื่อ Parameter (ไม่รวม ":") หรือ null หากไม่มี
+			 */
+			private static String named(String text) {
+				return Placeholders.of(text).named();
+			}
+
+			/**
+			 * ตรวจสอบว่า Value เป็นรูปแบบของ "LIKE" ("%..." หรือ "...%")
+			 * หรือไม่
+			 *
+			 * @param value
+			 *            Value ที่ต้องการตรวจสอบ
+			 * @return true หาก <code>value</code> ขึ้นต้นหรือลงท้ายด้วย "%"
+			 *         และยาวกว่า 1 ตัวอักษร
+			 */
+			private static boolean isLike(String value) {
+				return value.length() > 1 && (value.charAt(0) == '%'
+						|| value.charAt(value.length() - 1) == '%');
+			}
+
+			/**
+			 * ตรวจสอบว่าจะสร้างคำสั่งแบบคงรูป ({@link Factory#stable()})
+			 * หรือไม่ (เฉพาะ {@link Pair#value value} ที่เป็นค่าธรรมดา
+			 * และไม่มี Parameter ใน {@link Pair#field field} หรือ
+			 * {@link #condition})
+			 *
+			 * @param model
+			 *            {@link Model} ที่ต้องสร้างคำสั่ง (null : ไม่ระบุ)
+			 * @return true หากสร้างคำสั่งแบบคงรูป
+			 */
+			private boolean isStable(Model<?> model) {
+				return model != null && model.factory.stable()
+						&& value != Void.class && value != void.class
+						&& !(value instanceof Factory.Statement)
+						&& field.indexOf('?') < 0 && condition.indexOf('?') < 0
+						&& named(field) == null && named(condition) == null;
+			}
+
+			/**
+			 * ชนิดของ Field ตามชื่อ (ระบุ Field ลึกลงไปได้ด้วย ".")
+			 * ของแต่ละ Class ที่ถูกเรียกใช้แล้ว ({@link Void} : ไม่พบ Field)
+			 */
+			private static final ClassValue<ConcurrentHashMap<String,
+					Class<?>>> types =
+							new ClassValue<ConcurrentHashMap<String,
+									Class<?>>>() {
+								@Override
+								protected ConcurrentHashMap<String,
+										Class<?>> computeValue(Class<?> c) {
+									return new ConcurrentHashMap<>();
+								}
+							};
+
+			/**
+			 * เรียกชนิดที่ประกาศไว้ของ Field ตามชื่อที่ระบุ
+			 *
+			 * @param clazz
+			 *            Class ที่ต้องการค้นหา Field
+			 * @param path
+			 *            ชื่อ Field (ระบุ Field ลึกลงไปได้ด้วย ".")
+			 * @return ชนิดของ Field หรือ null หากไม่พบ Field
+			 */
+			private static Class<?> type(Class<?> clazz, String path) {
+				Class<?> type = types.get(clazz).computeIfAbsent(path, key -> {
+					Class<?> found = clazz;
+					for (String name : key.split("\\.")) {
+						Field field = null;
+						for (Class<?> c = found; field == null
+								&& c != null; c = c.getSuperclass()) {
+							for (Field f : c.getDeclaredFields()) {
+								if (f.getName().equals(name)) {
+									field = f;
+									break;
+								}
+							}
+						}
+						if (field == null) return Void.class;
+						found = field.getType();
+					}
+					return found;
+				});
+				return type == Void.class ? null : type;
+			}
+
+			/**
+			 * ตรวจสอบว่าเป็นการเปรียบเทียบข้อความที่ไม่ได้ระบุ
+			 * {@link #condition} ซึ่งจะใช้ "LIKE" เสมอในการสร้างคำสั่งแบบคงรูป
+			 * โดยพิจารณาจากชนิดที่ประกาศไว้ของ {@link Pair#field field}
+			 * เพื่อให้ค่า null และข้อความได้คำสั่งเดียวกัน
+			 * (หากไม่พบ Field เช่น เป็น Expression จะพิจารณาจาก
+			 * {@link Pair#value value} แทน)
+			 *
+			 * @param model
+			 *            {@link Model} ที่ต้องสร้างคำสั่ง
+			 * @return true หาก {@link #implicit} และ {@link Pair#field field}
+			 *         เป็น {@link String} (หรือ {@link Pair#value value}
+			 *         เป็น {@link String} หากไม่พบ Field)
+			 */
+			private boolean isPattern(Model<?> model) {
+				if (!implicit) return false;
+				String path = field.startsWith(model.as + ".")
+						? field.substring(model.as.length() + 1) : field;
+				Class<?> type = type(model.clazz, path);
+				return type == null
+						? value instanceof String : type == String.class;
+			}
+
+			/**
+			 * เรียกค่าที่จะผูกกับ Parameter ในการสร้างคำสั่งแบบคงรูป
+			 * ข้อความที่ไม่ใช่รูปแบบของ "LIKE" จะถูก Escape อักขระ "%", "_"
+			 * และ "!" ด้วย "!" เพื่อให้ผลลัพธ์เหมือนการเปรียบเทียบด้วย "="
+			 * ("!" ไม่มีความหมายพิเศษใน String Literal ต่างจาก "\"
+			 * ที่ MySQL และ MariaDB ถือเป็นอักขระ Escape)
+			 *
+			 * @param model
+			 *            {@link Model} ที่ต้องสร้างคำสั่ง
+			 * @return ค่าที่จะผูกกับ Parameter
+			 * @see #isPattern(Model)
+			 */
+			private Object bound(Model<?> model) {
+				if (!(value instanceof String) || !isPattern(model)
+						|| isLike((String) value)) return value;
+				String text = (String) value;
+				StringBuilder escaped = new StringBuilder(text.length() + 8);
+				for (int i = 0; i < text.length(); i++) {
+					char c = text.charAt(i);
+					if (c == '%' || c == '_' || c == '!') {
+						escaped.append('!');
+					}
+					escaped.append(c);
+				}
+				return escaped.toString();
+			}
+
+			/**
+			 * สร้างคำสั่งแบบคงรูป ซึ่งคำสั่ง JPQL ที่ได้ไม่ขึ้นอยู่กับ
+			 * {@link Pair#value value} (ค่า null และรูปแบบของ "LIKE"
+			 * ถูกส่งผ่าน Parameter แทนการเปลี่ยนคำสั่ง)<br />
+			 * (ต้องใช้กับฐานข้อมูลที่ยอมรับ "?1 IS NULL" ที่ไม่ระบุชนิด
+			 * ซึ่ง DB2 และ Derby ไม่ยอมรับ ดู {@link Factory#stable(boolean)})
+			 *
+			 * @param model
+			 *            {@link Model} ที่ต้องสร้างคำสั่ง
+			 * @param statement
+			 *            {@link StringBuilder} สำหรับใช้ในการสร้างคำสั่ง JPQL
+			 * @param param
+			 *            Parameter ในคำสั่ง (":name" หรือ "?n")
+			 */
+			private void stable(Model<?> model,
+					StringBuilder statement,
+					CharSequence param) {
+				CharSequence field = model.ialias(this.field);
+				if (isPattern(model)) {
+					statement.append('(').append(field).append(" LIKE ")
+							.append(param).append(" ESCAPE '!' OR ")
+							.append(param).append(" IS NULL AND ")
+							.append(field).append(" IS NULL)");
+				} else if (condition.equals("=") || condition.equals("!=")) {
+					statement.append('(').append(field).append(' ')
+							.append(condition).append(' ').append(param)
+							.append(" OR ").append(param)
+							.append(" IS NULL AND ").append(field)
+							.append(condition.equals("=")
+									? " IS NULL)" : " IS NOT NULL)");
+				} else {
+					statement.append(field).append(' ').append(condition)
+							.append(' ').append(param);
+				}
+			}
+
 			@Override
 			public boolean isNaming() {
 				return this.name != null;
@@ -454,18 +942,22 @@ public class Model<E> {
 					StringBuilder statement,
 					Map<String, Object> params)
 					throws IllegalArgumentException {
-				Pattern pattern = Pattern.compile(":\\w+");
-				Matcher matcher;
-				if ((matcher = pattern.matcher(field)).find()) {
-					statement.append(model.ialias(field));
-					iput(params, matcher.group().substring(1));
-				} else if ((matcher = pattern.matcher(condition)).find()) {
-					statement.append(model.ialias(field)).append(' ')
-							.append(condition);
-					iput(params, matcher.group().substring(1));
+				String name;
+				if (isStable(model)) {
+					name = this.name == null
+							? field.replace('.', '_') : this.name;
+					iput(params, name, bound(model));
+					stable(model, statement, ":" + name);
+					return;
 				}
 				statement.append(model.ialias(field));
-				if (value == null) {
+				if (value == Void.class || value == void.class) return;
+				else if ((name = named(field)) != null) {
+					iput(params, name);
+				} else if ((name = named(condition)) != null) {
+					statement.append(' ').append(condition);
+					iput(params, name);
+				} else if (value == null) {
 					if (condition.equals("=")) {
 						statement.append(" IS NULL");
 					} else if (condition.equals("!=")) {
@@ -478,8 +970,8 @@ public class Model<E> {
 					((Factory.Statement) value).build(model, statement, params);
 					statement.append(')');
 				} else {
-					iput(params, this.name == null
-							? field.replace('.', '_') : this.name);
+					name = this.name == null ? field.replace('.', '_') : this.name;
+					iput(params, name);
 					statement.append(' ').append(condition)
 							.append(" :").append(name);
 				}
@@ -489,16 +981,21 @@ public class Model<E> {
 			public void build(Model<?> model,
 					StringBuilder statement,
 					List<Object> params) {
-				if (field.indexOf('?') >= 0) {
+				if (isStable(model)) {
+					params.add(bound(model));
+					stable(model, statement, "?" + params.size());
+				} else if (field.indexOf('?') >= 0) {
 					params.add(value);
-					statement.append(model.ialias(field).toString()
-							.replace("?", "?" + params.size()));
+					CharSequence number = "?" + params.size();
+					Placeholders.of(model.ialias(field))
+							.indexed(statement, at -> number);
 				} else if (value == Void.class || value == void.class) {
 					statement.append(model.ialias(field));
 				} else if (condition.indexOf('?') >= 0) {
 					params.add(value);
-					statement.append(model.ialias(field)).append(' ').append(
-							condition.replace("?", "?" + params.size()));
+					CharSequence number = "?" + params.size();
+					statement.append(model.ialias(field)).append(' ');
+					Placeholders.of(condition).indexed(statement, at -> number);
 				} else {
 					statement.append(model.ialias(field));
 					if (value == null) {
@@ -522,6 +1019,81 @@ public class Model<E> {
 					}
 				}
 			}
+
+			@Override
+			public boolean shape(StringBuilder key) {
+				return shape(null, key);
+			}
+
+			@Override
+			public boolean shape(Model<?> model, StringBuilder key) {
+				key.append('{').append(field).append('\0')
+						.append(condition).append('\0')
+						.append(name).append('\0');
+				if (isStable(model)) {
+					key.append(isPattern(model) ? 'L' : 'S');
+				} else if (value == null) {
+					key.append('0');
+				} else if (value == Void.class || value == void.class) {
+					key.append('-');
+				} else if (value instanceof Factory.Statement) {
+					if (!((Factory.Statement) value).shape(model, key))
+						return false;
+				} else {
+					key.append('?');
+				}
+				key.append('}');
+				return true;
+			}
+
+			@Override
+			public void bind(Map<String, Object> named, List<Object> index)
+					throws IllegalArgumentException,
+					UnsupportedOperationException {
+				bind(null, named, index);
+			}
+
+			@Override
+			public void bind(Model<?> model,
+					Map<String, Object> named,
+					List<Object> index)
+					throws IllegalArgumentException,
+					UnsupportedOperationException {
+				if (isStable(model)) {
+					if (named == null) {
+						index.add(bound(model));
+					} else {
+						iput(named, this.name == null
+								? field.replace('.', '_') : this.name,
+								bound(model));
+					}
+				} else if (named == null) {
+					if (field.indexOf('?') >= 0) {
+						index.add(value);
+					} else if (value == Void.class || value == void.class) {
+						return;
+					} else if (condition.indexOf('?') >= 0) {
+						index.add(value);
+					} else if (value instanceof Factory.Statement) {
+						((Factory.Statement) value).bind(model, null, index);
+					} else if (value != null) {
+						index.add(value);
+					}
+				} else {
+					String name;
+					if (value == Void.class || value == void.class) return;
+					else if ((name = named(field)) != null) {
+						iput(named, name);
+					} else if ((name = named(condition)) != null) {
+						iput(named, name);
+					} else if (value instanceof Factory.Statement) {
+						((Factory.Statement) value).bind(model, named, null);
+					} else if (value != null) {
+						iput(named, this.name == null
+								? field.replace('.', '_') : this.name);
+					}
+				}
+			}
 		}
 
 		/**
@@ -641,6 +1213,43 @@ public class Model<E> {
 				build(statement,
 						criteria -> criteria.build(model, statement, params));
 			}
+
+			@Override
+			public boolean shape(StringBuilder key) {
+				return shape(null, key);
+			}
+
+			@Override
+			public boolean shape(Model<?> model, StringBuilder key) {
+				key.append(negation ? "!(" : "(");
+				Iterator<CharSequence> i = conjunct.iterator();
+				for (Criteria criteria : criteria) {
+					if (!criteria.shape(model, key)) return false;
+					if (i.hasNext()) {
+						key.append(' ').append(i.next()).append(' ');
+					}
+				}
+				key.append(')');
+				return true;
+			}
+
+			@Override
+			public void bind(Map<String, Object> named, List<Object> index)
+					throws IllegalArgumentException,
+					UnsupportedOperationException {
+				bind(null, named, index);
+			}
+
+			@Override
+			public void bind(Model<?> model,
+					Map<String, Object> named,
+					List<Object> index)
+					throws IllegalArgumentException,
+					UnsupportedOperationException {
+				for (Criteria criteria : criteria) {
+					criteria.bind(model, named, index);
+				}
+			}
 		}
 
 		/**
@@ -694,837 +1303,3985 @@ public class Model<E> {
 		 * เพียงแต่ตอนสร้าง PersistanceUnit Object ต้องระบุให้ได้ว่าจะใช้
 		 * Persistence Unit Name ใดในการสร้าง {@link EntityManagerFactory}
 		 * Object
+		 * <p>
+		 * {@link EntityManagerFactory} จะถูกสร้างเพียงครั้งเดียวต่อ Persistence
+		 * Unit Name เมื่อมีการเรียกใช้ครั้งแรก และจะถูกใช้ร่วมกันระหว่าง
+		 * {@link UnitName} Object, {@link Model} และ Thread ทั้งหมด
+		 * ผ่าน {@link #registry()} จนกว่า {@link UnitName} ทุกตัวที่ใช้งานอยู่
+		 * จะเรียก {@link #close()}
+		 * </p>
 		 *
 		 * @since JDK 1.8, jpa-model 2.0
-		 * @version 1.0.0
+		 * @version 1.1.0
 		 * @author เสือไฮ่
 		 * @see Persistence#createEntityManagerFactory(String)
 		 */
-		public static class UnitName extends Factory {
+		public static class UnitName extends Factory implements AutoCloseable {
+			/**
+			 * {@link EntityManagerFactory} ที่เปิดใช้งานอยู่ ตาม Persistence Unit
+			 * Name
+			 */
+			private static final ConcurrentHashMap<String,
+					EntityManagerFactory> registry = new ConcurrentHashMap<>();
+			/**
+			 * จำนวน {@link UnitName} ที่ใช้งาน {@link EntityManagerFactory}
+			 * ใน {@link #registry} อยู่ ตาม Persistence Unit Name
+			 * (ปรับปรุงภายใน {@link ConcurrentHashMap#compute} ของ
+			 * {@link #registry} เท่านั้น)
+			 */
+			private static final HashMap<String,
+					Integer> references = new HashMap<>();
+
+			/**
+			 * เรียก {@link EntityManagerFactory} ที่เปิดใช้งานอยู่ทั้งหมด
+			 *
+			 * @return {@link Map} (อ่านได้อย่างเดียว) ของ Persistence Unit Name
+			 *         และ {@link EntityManagerFactory} ที่เปิดใช้งานอยู่
+			 */
+			public static Map<String, EntityManagerFactory> registry() {
+				return Collections.unmodifiableMap(registry);
+			}
 
 			/**
 			 * Persistence Unit Name สำหรับสร้าง {@link EntityManagerFactory}
 			 */
 			private final String name;
+			/**
+			 * Property เพิ่มเติมสำหรับสร้าง {@link EntityManagerFactory}
+			 */
+			private final Map<String, ?> properties;
+			/**
+			 * {@link EntityManagerFactory} ที่ {@link UnitName}
+			 * นี้นับเป็นผู้ใช้งานอยู่ (null : ยังไม่ได้ใช้งานหรือปิดแล้ว)
+			 */
+			private volatile EntityManagerFactory opened;
 
 			/**
 			 * Constructor สำหรับสร้าง {@link Factory.UnitName} Object
 			 *
 			 * @param name
 			 *            {@link #name}
+			 * @param properties
+			 *            {@link #properties} (ใช้เฉพาะตอนสร้าง
+			 *            {@link EntityManagerFactory} ของ <code>name</code>
+			 *            ครั้งแรกเท่านั้น)
 			 * @param register
 			 *            {@link #register}
+			 * @throws NullPointerException
+			 *             <code>name</code> เป็น null
 			 * @see Model.Factory#Factory(Class...)
+			 * @see Persistence#createEntityManagerFactory(String, Map)
 			 */
 			@SafeVarargs
 			public UnitName(String name,
-					Class<? extends Model<?>>... register) {
+					Map<String, ?> properties,
+					Class<? extends Model<?>>... register)
+					throws NullPointerException {
 				super(register);
-				this.name = name;
+				if ((this.name = name) == null)
+					throw new NullPointerException();
+				this.properties = properties;
+			}
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Factory.UnitName} Object
+			 *
+			 * @param name
+			 *            {@link #name}
+			 * @param register
+			 *            {@link #register}
+			 * @throws NullPointerException
+			 *             <code>name</code> เป็น null
+			 * @see #UnitName(String, Map, Class...)
+			 */
+			@SafeVarargs
+			public UnitName(String name,
+					Class<? extends Model<?>>... register)
+					throws NullPointerException {
+				this(name, null, register);
 			}
 
 			@Override
 			public <R> R factory(Function<EntityManagerFactory, R> function)
 					throws UnsupportedOperationException {
-				EntityManagerFactory factory;
-				try {
-					factory = Persistence.createEntityManagerFactory(name);
-				} catch (Throwable e) {
-					throw new UnsupportedOperationException(e);
+				EntityManagerFactory factory = opened;
+				if (factory == null || !factory.isOpen()) {
+					try {
+						factory = registry.compute(name, (unit, open) -> {
+							if (open == null || !open.isOpen()) {
+								open = Persistence.createEntityManagerFactory(
+										unit, properties);
+								references.remove(unit);
+							}
+							if (opened != open) {
+								references.merge(unit, 1, Integer::sum);
+								opened = open;
+							}
+							return open;
+						});
+					} catch (Throwable e) {
+						throw new UnsupportedOperationException(e);
+					}
+				}
+				return function.apply(factory);
+			}
+
+			/**
+			 * เลิกใช้งาน {@link EntityManagerFactory} ของ Persistence Unit Name
+			 * นี้ โดย {@link EntityManagerFactory} จะถูกปิดและนำออกจาก
+			 * {@link #registry()} เมื่อ {@link UnitName} ทุกตัวที่ใช้งานอยู่
+			 * เรียก {@link #close()} แล้วเท่านั้น<br />
+			 * (การเรียกใช้ {@link #factory(Function)} ครั้งต่อไป
+			 * จะกลับมาใช้งาน {@link EntityManagerFactory} อีกครั้ง
+			 * หรือสร้างขึ้นมาใหม่หากถูกปิดไปแล้ว)
+			 *
+			 * @see EntityManagerFactory#close()
+			 */
+			@Override
+			public void close() {
+				EntityManagerFactory factory = opened;
+				if (factory == null) return;
+				registry.computeIfPresent(name, (unit, open) -> {
+					if (opened != open) return open;
+					opened = null;
+					Integer count = references.merge(
+							unit, -1, (used, release) -> used + release > 0
+									? used + release : null);
+					if (count != null) return open;
+					if (open.isOpen()) {
+						open.close();
+					}
+					return null;
+				});
+				opened = null;
+			}
+		}
+
+		/**
+		 * Class <code>Model.Factory.StatementCache</code> สำหรับเก็บคำสั่ง
+		 * JPQL ที่สร้างแล้ว ตามรูปแบบโครงสร้างของคำสั่ง
+		 * ({@link Statement#shape(StringBuilder)}) เพื่อให้การเรียกใช้คำสั่งที่มี
+		 * รูปแบบโครงสร้างเดิมซ้ำ ไม่ต้องสร้างคำสั่ง JPQL ขึ้นมาใหม่
+		 * เพียงแต่ผูกค่า Parameter ({@link Statement#bind(Map, List)}) เท่านั้น
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 */
+		public static class StatementCache {
+			/**
+			 * คำสั่ง JPQL ที่สร้างแล้ว ตาม Key ของรูปแบบโครงสร้างของคำสั่ง
+			 */
+			private final ConcurrentHashMap<Object,
+					String> cache = new ConcurrentHashMap<>();
+			/**
+			 * จำนวนครั้งที่พบคำสั่งใน {@link #cache}
+			 */
+			private final LongAdder hit = new LongAdder();
+			/**
+			 * จำนวนครั้งที่ต้องสร้างคำสั่งขึ้นมาใหม่
+			 */
+			private final LongAdder miss = new LongAdder();
+			/**
+			 * จำนวนคำสั่งสูงสุดที่เก็บใน {@link #cache} (&lt;= 0 :
+			 * ไม่เก็บคำสั่ง)
+			 */
+			private volatile int limit;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link StatementCache} Object
+			 *
+			 * @param limit
+			 *            {@link #limit}
+			 */
+			public StatementCache(int limit) {
+				this.limit = limit;
+			}
+
+			/**
+			 * เรียกคำสั่ง JPQL ที่เก็บไว้ตาม Key ที่ระบุ
+			 *
+			 * @param key
+			 *            Key ของรูปแบบโครงสร้างของคำสั่ง (null :
+			 *            คำสั่งไม่สามารถเก็บได้)
+			 * @return คำสั่ง JPQL หรือ null หากไม่พบคำสั่ง
+			 */
+			protected String get(Object key) {
+				String statement = key == null ? null : cache.get(key);
+				(statement == null ? miss : hit).increment();
+				return statement;
+			}
+
+			/**
+			 * เก็บคำสั่ง JPQL ตาม Key ที่ระบุ
+			 * (หากจำนวนคำสั่งถึง {@link #limit} แล้ว
+			 * คำสั่งเดิมทั้งหมดจะถูกล้างออกก่อน)
+			 *
+			 * @param key
+			 *            Key ของรูปแบบโครงสร้างของคำสั่ง
+			 * @param statement
+			 *            คำสั่ง JPQL
+			 * @return <code>statement</code>
+			 */
+			protected String put(Object key, String statement) {
+				int limit = this.limit;
+				if (key != null && limit > 0) {
+					if (cache.size() >= limit) {
+						cache.clear();
+					}
+					cache.put(key, statement);
+				}
+				return statement;
+			}
+
+			/**
+			 * @return จำนวนครั้งที่พบคำสั่งที่เก็บไว้
+			 */
+			public long hits() {
+				return hit.sum();
+			}
+
+			/**
+			 * @return จำนวนครั้งที่ต้องสร้างคำสั่งขึ้นมาใหม่
+			 */
+			public long misses() {
+				return miss.sum();
+			}
+
+			/**
+			 * @return จำนวนคำสั่งที่เก็บไว้ในปัจจุบัน
+			 */
+			public int size() {
+				return cache.size();
+			}
+
+			/**
+			 * @return {@link #limit}
+			 */
+			public int limit() {
+				return limit;
+			}
+
+			/**
+			 * กำหนดจำนวนคำสั่งสูงสุดที่เก็บไว้
+			 *
+			 * @param limit
+			 *            {@link #limit}
+			 * @return Object ตัวเอง
+			 */
+			public StatementCache limit(int limit) {
+				if ((this.limit = limit) <= 0) {
+					cache.clear();
+				}
+				return this;
+			}
+
+			/**
+			 * ล้างคำสั่งที่เก็บไว้ทั้งหมด และตัวนับ {@link #hits()},
+			 * {@link #misses()}
+			 */
+			public void clear() {
+				cache.clear();
+				hit.reset();
+				miss.reset();
+			}
+		}
+
+		/**
+		 * Class <code>Model.Factory.ResultCache</code>
+		 * สำหรับเก็บผลลัพธ์จากการค้นหาข้อมูล ตามคำสั่ง JPQL และค่า Parameter
+		 * ที่ผูกกับคำสั่ง โดยจำกัดจำนวนผลลัพธ์ที่เก็บ ({@link #limit(int)})
+		 * และอายุของผลลัพธ์ ({@link #ttl(long)}) ผลลัพธ์ของ {@link Entity}
+		 * Class ใดจะถูกล้างทันทีที่การเพิ่ม ปรับปรุง หรือลบข้อมูลของ Class นั้น
+		 * ผ่าน {@link Factory} ถูก Commit แล้ว
+		 * <br />
+		 * ทุกครั้งที่ล้างผลลัพธ์จะเพิ่ม Generation ของ {@link Entity} Class
+		 * (นับรวมทั้งลำดับชั้นของ {@link Entity}) และผลลัพธ์ที่ค้นหาไว้ก่อน
+		 * Generation ปัจจุบันจะไม่ถูกเก็บ
+		 * <br />
+		 * (ปิดการทำงานเป็นค่าเริ่มต้น และ {@link Entity} ในผลลัพธ์ที่เก็บไว้
+		 * จะถูกใช้ร่วมกันระหว่างผู้เรียก จึงไม่ควรแก้ไขโดยตรง)
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.1.0
+		 * @author เสือไฮ่
+		 */
+		public static class ResultCache {
+			/**
+			 * {@link Entity} Class ที่อยู่บนสุดของลำดับชั้นของแต่ละ Class
+			 */
+			private static final ClassValue<Class<?>> roots =
+					new ClassValue<Class<?>>() {
+						@Override
+						protected Class<?> computeValue(Class<?> clazz) {
+							Class<?> root = clazz;
+							for (Class<?> c = clazz.getSuperclass(); c != null;
+									c = c.getSuperclass()) {
+								if (c.isAnnotationPresent(Entity.class)) {
+									root = c;
+								}
+							}
+							return root;
+						}
+					};
+
+			/**
+			 * ผลลัพธ์ที่เก็บไว้ ตาม {@link Key}
+			 */
+			private final ConcurrentHashMap<Key,
+					Object[]> cache = new ConcurrentHashMap<>();
+			/**
+			 * Generation ของแต่ละลำดับชั้นของ {@link Entity} Class
+			 * (เพิ่มขึ้นทุกครั้งที่เรียก {@link #invalidate(Class)})
+			 */
+			private final ConcurrentHashMap<Class<?>,
+					AtomicLong> generations = new ConcurrentHashMap<>();
+			/**
+			 * จำนวนครั้งที่พบผลลัพธ์ใน {@link #cache}
+			 */
+			private final LongAdder hit = new LongAdder();
+			/**
+			 * จำนวนครั้งที่ต้องค้นหาจากฐานข้อมูล
+			 */
+			private final LongAdder miss = new LongAdder();
+			/**
+			 * จำนวนผลลัพธ์สูงสุดที่เก็บใน {@link #cache} (&lt;= 0 :
+			 * ไม่เก็บผลลัพธ์)
+			 */
+			private volatile int limit;
+			/**
+			 * อายุของผลลัพธ์ (Nanosecond, &lt;= 0 : ไม่หมดอายุ)
+			 */
+			private volatile long ttl;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link ResultCache} Object
+			 *
+			 * @param limit
+			 *            {@link #limit}
+			 * @param ttl
+			 *            อายุของผลลัพธ์ (Millisecond, &lt;= 0 : ไม่หมดอายุ)
+			 */
+			public ResultCache(int limit, long ttl) {
+				this.limit = limit;
+				this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+			}
+
+			/**
+			 * เรียกผลลัพธ์ที่เก็บไว้ตาม Key ที่ระบุ
+			 *
+			 * @param key
+			 *            Key ของผลลัพธ์
+			 * @return ผลลัพธ์ หรือ null หากไม่พบหรือหมดอายุแล้ว
+			 */
+			protected Object get(Key key) {
+				Object[] entry = cache.get(key);
+				if (entry != null && ttl > 0
+						&& System.nanoTime() - (long) entry[1] > ttl) {
+					cache.remove(key, entry);
+					entry = null;
+				}
+				(entry == null ? miss : hit).increment();
+				return entry == null ? null : entry[0];
+			}
+
+			/**
+			 * เรียก Generation ปัจจุบันของ {@link Entity} Class ที่ระบุ
+			 * (ควรเรียกก่อนค้นหาข้อมูล และส่งให้
+			 * {@link #put(Key, Object, long)})
+			 *
+			 * @param clazz
+			 *            {@link Entity} Class
+			 * @return Generation ปัจจุบัน
+			 */
+			protected long generation(Class<?> clazz) {
+				AtomicLong generation = generations.get(roots.get(clazz));
+				return generation == null ? 0 : generation.get();
+			}
+
+			/**
+			 * เก็บผลลัพธ์ตาม Key ที่ระบุ (หากจำนวนผลลัพธ์ถึง {@link #limit}
+			 * แล้ว ผลลัพธ์ที่หมดอายุจะถูกล้างออกก่อน
+			 * หากยังเต็มอยู่ผลลัพธ์เดิมทั้งหมดจะถูกล้างออก)
+			 * <br />
+			 * (ผลลัพธ์จะไม่ถูกเก็บหากมีการเรียก {@link #invalidate(Class)}
+			 * หลังจาก <code>generation</code>)
+			 *
+			 * @param key
+			 *            Key ของผลลัพธ์
+			 * @param result
+			 *            ผลลัพธ์
+			 * @param generation
+			 *            {@link #generation(Class)} ก่อนเริ่มค้นหา
+			 *            <code>result</code>
+			 */
+			protected void put(Key key, Object result, long generation) {
+				int limit = this.limit;
+				if (limit <= 0 || generation(key.clazz) != generation) return;
+				long now = System.nanoTime(), ttl = this.ttl;
+				if (cache.size() >= limit) {
+					if (ttl > 0) {
+						cache.values().removeIf(
+								entry -> now - (long) entry[1] > ttl);
+					}
+					if (cache.size() >= limit) {
+						cache.clear();
+					}
+				}
+				Object[] entry = new Object[] { result, now };
+				cache.put(key, entry);
+				if (generation(key.clazz) != generation) {
+					cache.remove(key, entry);
+				}
+			}
+
+			/**
+			 * ล้างผลลัพธ์ทั้งหมดของ {@link Entity} Class ที่ระบุ
+			 * (รวมถึง Class แม่และ Class ลูก) และเพิ่ม Generation
+			 *
+			 * @param clazz
+			 *            {@link Entity} Class ที่ข้อมูลมีการเปลี่ยนแปลง
+			 */
+			public void invalidate(Class<?> clazz) {
+				generations.computeIfAbsent(roots.get(clazz),
+						root -> new AtomicLong()).incrementAndGet();
+				if (cache.isEmpty()) return;
+				cache.keySet().removeIf(key -> key.clazz.isAssignableFrom(clazz)
+						|| clazz.isAssignableFrom(key.clazz));
+			}
+
+			/**
+			 * @return จำนวนครั้งที่พบผลลัพธ์ที่เก็บไว้
+			 */
+			public long hits() {
+				return hit.sum();
+			}
+
+			/**
+			 * @return จำนวนครั้งที่ต้องค้นหาจากฐานข้อมูล
+			 */
+			public long misses() {
+				return miss.sum();
+			}
+
+			/**
+			 * @return จำนวนผลลัพธ์ที่เก็บไว้ในปัจจุบัน
+			 */
+			public int size() {
+				return cache.size();
+			}
+
+			/**
+			 * @return {@link #limit}
+			 */
+			public int limit() {
+				return limit;
+			}
+
+			/**
+			 * กำหนดจำนวนผลลัพธ์สูงสุดที่เก็บไว้ (&lt;= 0 : ปิดการทำงาน)
+			 *
+			 * @param limit
+			 *            {@link #limit}
+			 * @return Object ตัวเอง
+			 */
+			public ResultCache limit(int limit) {
+				if ((this.limit = limit) <= 0) {
+					cache.clear();
+				}
+				return this;
+			}
+
+			/**
+			 * @return อายุของผลลัพธ์ (Millisecond)
+			 */
+			public long ttl() {
+				return TimeUnit.NANOSECONDS.toMillis(ttl);
+			}
+
+			/**
+			 * กำหนดอายุของผลลัพธ์
+			 *
+			 * @param ttl
+			 *            อายุของผลลัพธ์ (Millisecond, &lt;= 0 : ไม่หมดอายุ)
+			 * @return Object ตัวเอง
+			 */
+			public ResultCache ttl(long ttl) {
+				this.ttl = TimeUnit.MILLISECONDS.toNanos(ttl);
+				return this;
+			}
+
+			/**
+			 * ล้างผลลัพธ์ที่เก็บไว้ทั้งหมด และตัวนับ {@link #hits()},
+			 * {@link #misses()}
+			 */
+			public void clear() {
+				cache.clear();
+				hit.reset();
+				miss.reset();
+			}
+
+			/**
+			 * Class <code>Model.Factory.ResultCache.Key</code> สำหรับเป็น Key
+			 * ของผลลัพธ์ ประกอบด้วย {@link Entity} Class, ตัวระบุข้อมูล,
+			 * คำสั่ง JPQL และค่า Parameter
+			 *
+			 * @author เสือไฮ่
+			 */
+			protected static final class Key {
+				/**
+				 * {@link Entity} Class ของคำสั่ง
+				 */
+				private final Class<?> clazz;
+				/**
+				 * ส่วนประกอบของ Key
+				 */
+				private final Object[] parts;
+				/**
+				 * Hash Code ของ {@link #parts}
+				 */
+				private final int hash;
+
+				/**
+				 * Constructor สำหรับสร้าง {@link Key} Object
+				 *
+				 * @param clazz
+				 *            {@link #clazz}
+				 * @param parts
+				 *            {@link #parts}
+				 */
+				protected Key(Class<?> clazz, Object... parts) {
+					this.clazz = clazz;
+					this.parts = parts;
+					this.hash = clazz.hashCode() * 31
+							+ Arrays.deepHashCode(parts);
+				}
+
+				@Override
+				public int hashCode() {
+					return hash;
+				}
+
+				@Override
+				public boolean equals(Object obj) {
+					if (this == obj) return true;
+					else if (!(obj instanceof Key)) return false;
+					Key key = (Key) obj;
+					return hash == key.hash && clazz == key.clazz
+							&& Arrays.deepEquals(parts, key.parts);
+				}
+			}
+		}
+
+		/**
+		 * Interface <code>Model.Factory.Monitor</code>
+		 * สำหรับรับการแจ้งเตือนเมื่อเริ่มและจบการทำงานของคำสั่งใน
+		 * {@link Factory} (find, finds, add, put, del)
+		 * ซึ่งเรียกใน Thread ที่ประมวลผลคำสั่ง จึงควรทำงานให้เสร็จโดยเร็ว
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 * @see Factory#monitor(Monitor)
+		 */
+		public interface Monitor {
+			/**
+			 * เริ่มการทำงานของคำสั่ง
+			 *
+			 * @param trace
+			 *            ข้อมูลของคำสั่ง
+			 */
+			default void start(Trace trace) {}
+
+			/**
+			 * จบการทำงานของคำสั่งสำเร็จ
+			 *
+			 * @param trace
+			 *            ข้อมูลของคำสั่ง พร้อม {@link Trace#rows} และ
+			 *            {@link Trace#nanos}
+			 */
+			default void end(Trace trace) {}
+
+			/**
+			 * จบการทำงานของคำสั่งโดยเกิดข้อผิดพลาด (รวมถึงข้อผิดพลาดที่ถูกส่งไปยัง
+			 * {@link Model#listener} แทนการ throw)
+			 *
+			 * @param trace
+			 *            ข้อมูลของคำสั่ง พร้อม {@link Trace#thrown} และ
+			 *            {@link Trace#nanos}
+			 */
+			default void error(Trace trace) {}
+		}
+
+		/**
+		 * Class <code>Model.Factory.Trace</code> สำหรับเก็บข้อมูลของคำสั่ง
+		 * แต่ละครั้งที่ส่งให้ {@link Monitor}
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 */
+		public static final class Trace {
+			/**
+			 * {@link Entity} Class ของคำสั่ง
+			 */
+			public final Class<?> clazz;
+			/**
+			 * ชื่อคำสั่ง (find, finds, add, put, del, caught)
+			 */
+			public final String operation;
+			/**
+			 * คำสั่ง JPQL (null หากไม่ได้ประมวลผลผ่านคำสั่ง JPQL)
+			 */
+			public final String statement;
+			/**
+			 * จำนวน Parameter ของคำสั่ง
+			 */
+			public final int params;
+			/**
+			 * จำนวนข้อมูลที่ได้หรือได้รับผลจากคำสั่ง (-1 : ไม่ทราบ)
+			 */
+			public int rows = -1;
+			/**
+			 * ระยะเวลาในการทำงานของคำสั่ง (Nanosecond)
+			 */
+			public long nanos;
+			/**
+			 * ข้อผิดพลาดที่เกิดขึ้น (null หากไม่มีข้อผิดพลาด)
+			 */
+			public Throwable thrown;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Trace} Object
+			 *
+			 * @param clazz
+			 *            {@link #clazz}
+			 * @param operation
+			 *            {@link #operation}
+			 * @param statement
+			 *            {@link #statement}
+			 * @param params
+			 *            {@link #params}
+			 */
+			protected Trace(Class<?> clazz,
+					String operation,
+					String statement,
+					int params) {
+				this.clazz = clazz;
+				this.operation = operation;
+				this.statement = statement;
+				this.params = params;
+			}
+		}
+
+		/**
+		 * Class <code>Model.Factory.Histogram</code> เป็น {@link Monitor}
+		 * สำหรับบันทึกระยะเวลาการทำงานของคำสั่งแยกตาม {@link Entity} Class
+		 * และชื่อคำสั่ง ลงใน Histogram แบบ Log-Linear (แบบเดียวกับ
+		 * HdrHistogram ความละเอียด 16 ช่องต่อช่วงยกกำลังสอง หรือราว 6%)
+		 * ซึ่งบันทึกได้โดยไม่ต้องจองหน่วยความจำเพิ่มและไม่ต้อง Lock
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 */
+		public static class Histogram implements Monitor {
+			/**
+			 * {@link Recorder} แยกตาม "Class.operation"
+			 */
+			private final ConcurrentHashMap<String,
+					Recorder> recorders = new ConcurrentHashMap<>();
+
+			/**
+			 * เรียก {@link Recorder} ของคำสั่งที่ระบุ
+			 *
+			 * @param trace
+			 *            ข้อมูลของคำสั่ง
+			 * @return {@link Recorder} ของคำสั่ง
+			 */
+			protected Recorder recorder(Trace trace) {
+				String key = trace.clazz.getSimpleName() + "."
+						+ trace.operation;
+				Recorder recorder = recorders.get(key);
+				return recorder == null ? recorders.computeIfAbsent(key,
+						k -> new Recorder()) : recorder;
+			}
+
+			@Override
+			public void end(Trace trace) {
+				recorder(trace).record(trace.nanos, trace.rows);
+			}
+
+			@Override
+			public void error(Trace trace) {
+				recorder(trace).error(trace.nanos);
+			}
+
+			/**
+			 * @return {@link Recorder} ทั้งหมด แยกตาม "Class.operation"
+			 */
+			public Map<String, Recorder> recorders() {
+				return Collections.unmodifiableMap(recorders);
+			}
+
+			/**
+			 * ล้างค่าที่บันทึกไว้ทั้งหมด
+			 */
+			public void reset() {
+				recorders.clear();
+			}
+
+			/**
+			 * สรุปค่าที่บันทึกไว้ทั้งหมด (หน่วยเป็น Microsecond)
+			 *
+			 * @return สรุปค่าที่บันทึกไว้ บรรทัดละหนึ่งคำสั่ง
+			 */
+			public String dump() {
+				StringBuilder builder = new StringBuilder();
+				for (Map.Entry<String, Recorder> entry : new TreeMap<>(
+						recorders).entrySet()) {
+					Recorder recorder = entry.getValue();
+					builder.append(entry.getKey())
+							.append(" count=").append(recorder.count())
+							.append(" errors=").append(recorder.errors())
+							.append(" rows=").append(recorder.rows())
+							.append(" mean=").append(recorder.mean() / 1000)
+							.append(" p50=")
+							.append(recorder.percentile(50) / 1000)
+							.append(" p90=")
+							.append(recorder.percentile(90) / 1000)
+							.append(" p99=")
+							.append(recorder.percentile(99) / 1000)
+							.append(" max=").append(recorder.max() / 1000)
+							.append('\n');
+				}
+				return builder.toString();
+			}
+
+			@Override
+			public String toString() {
+				return dump();
+			}
+
+			/**
+			 * Class <code>Model.Factory.Histogram.Recorder</code>
+			 * สำหรับบันทึกระยะเวลาการทำงานของคำสั่งหนึ่งๆ
+			 *
+			 * @author เสือไฮ่
+			 */
+			public static final class Recorder {
+				/**
+				 * จำนวนช่องย่อยในแต่ละช่วงยกกำลังสอง (2^4)
+				 */
+				private static final int SUB = 4;
+				/**
+				 * จำนวนครั้งที่บันทึกในแต่ละช่อง
+				 */
+				private final AtomicLongArray counts =
+						new AtomicLongArray((64 - SUB) << SUB);
+				/**
+				 * จำนวนครั้งที่บันทึกทั้งหมด
+				 */
+				private final LongAdder count = new LongAdder();
+				/**
+				 * ระยะเวลารวม
+				 */
+				private final LongAdder total = new LongAdder();
+				/**
+				 * จำนวนข้อมูลรวม
+				 */
+				private final LongAdder rows = new LongAdder();
+				/**
+				 * จำนวนครั้งที่เกิดข้อผิดพลาด
+				 */
+				private final LongAdder errors = new LongAdder();
+				/**
+				 * ระยะเวลาสูงสุด
+				 */
+				private final LongAccumulator max =
+						new LongAccumulator(Math::max, 0);
+
+				/**
+				 * คำนวณตำแหน่งช่องของค่าที่ระบุ
+				 *
+				 * @param value
+				 *            ค่าที่ต้องการ (&gt;= 0)
+				 * @return ตำแหน่งช่อง
+				 */
+				private static int index(long value) {
+					if (value < (1 << SUB)) return (int) value;
+					int major = 63 - Long.numberOfLeadingZeros(value);
+					int minor = (int) (value >>> (major - SUB))
+							& ((1 << SUB) - 1);
+					return ((major - SUB + 1) << SUB) + minor;
+				}
+
+				/**
+				 * คำนวณค่าสูงสุดของช่องที่ระบุ
+				 *
+				 * @param index
+				 *            ตำแหน่งช่อง
+				 * @return ค่าสูงสุดในช่อง
+				 */
+				private static long value(int index) {
+					if (index < (1 << SUB)) return index;
+					int major = (index >>> SUB) + SUB - 1;
+					long minor = index & ((1 << SUB) - 1);
+					return (((1L << SUB) + minor + 1) << (major - SUB)) - 1;
+				}
+
+				/**
+				 * บันทึกการทำงานที่สำเร็จ
+				 *
+				 * @param nanos
+				 *            ระยะเวลา (Nanosecond)
+				 * @param rows
+				 *            จำนวนข้อมูล (&lt; 0 : ไม่ทราบ)
+				 */
+				protected void record(long nanos, int rows) {
+					nanos = Math.max(nanos, 0);
+					counts.incrementAndGet(index(nanos));
+					count.increment();
+					total.add(nanos);
+					max.accumulate(nanos);
+					if (rows > 0) {
+						this.rows.add(rows);
+					}
+				}
+
+				/**
+				 * บันทึกการทำงานที่เกิดข้อผิดพลาด
+				 *
+				 * @param nanos
+				 *            ระยะเวลา (Nanosecond)
+				 */
+				protected void error(long nanos) {
+					errors.increment();
+					record(nanos, -1);
+				}
+
+				/**
+				 * @return จำนวนครั้งที่บันทึกทั้งหมด
+				 */
+				public long count() {
+					return count.sum();
+				}
+
+				/**
+				 * @return จำนวนครั้งที่เกิดข้อผิดพลาด
+				 */
+				public long errors() {
+					return errors.sum();
+				}
+
+				/**
+				 * @return จำนวนข้อมูลรวม
+				 */
+				public long rows() {
+					return rows.sum();
+				}
+
+				/**
+				 * @return ระยะเวลาเฉลี่ย (Nanosecond)
+				 */
+				public long mean() {
+					long count = this.count.sum();
+					return count == 0 ? 0 : total.sum() / count;
+				}
+
+				/**
+				 * @return ระยะเวลาสูงสุด (Nanosecond)
+				 */
+				public long max() {
+					return max.get();
+				}
+
+				/**
+				 * คำนวณระยะเวลา ณ Percentile ที่ระบุ
+				 *
+				 * @param percentile
+				 *            Percentile ที่ต้องการ (0 - 100)
+				 * @return ระยะเวลา (Nanosecond) ที่ครอบคลุมการทำงาน
+				 *         ตาม Percentile ที่ระบุ
+				 */
+				public long percentile(double percentile) {
+					long count = 0;
+					for (int i = 0; i < counts.length(); i++) {
+						count += counts.get(i);
+					}
+					long target = (long) Math.ceil(count * percentile / 100);
+					long sum = 0;
+					for (int i = 0; i < counts.length(); i++) {
+						if ((sum += counts.get(i)) >= target && sum > 0)
+							return Math.min(value(i), max());
+					}
+					return 0;
+				}
+			}
+		}
+
+		/**
+		 * Class <code>Model.Factory.Compiled</code> สำหรับเก็บคำสั่ง JPQL
+		 * ที่สร้างเสร็จแล้ว คู่กับ Parameter ที่ผูกค่าไว้สำหรับคำสั่งนั้น
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 * @see Factory#compile(Model, String, CharSequence, CharSequence,
+		 *      Object...)
+		 */
+		protected static class Compiled {
+			/**
+			 * คำสั่ง JPQL
+			 */
+			protected final String statement;
+			/**
+			 * Parameter ใน {@link #statement}
+			 */
+			protected final Object[] params;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Compiled} Object
+			 *
+			 * @param statement
+			 *            {@link #statement}
+			 * @param params
+			 *            {@link #params}
+			 */
+			protected Compiled(String statement, Object[] params) {
+				this.statement = statement;
+				this.params = params;
+			}
+		}
+
+		/**
+		 * Class <code>Model.Factory.Limit</code> สำหรับจำกัดจำนวนคำสั่ง
+		 * ที่ประมวลผลพร้อมกันใน {@link Factory#async(Supplier)}
+		 * โดยคำสั่งที่ยังไม่ได้รับสิทธิ์จะรอในคิว (ไม่ได้ส่งไปยัง
+		 * {@link Executor}) และจะถูกส่งไปเมื่อคำสั่งก่อนหน้าจบการทำงาน
+		 * จึงไม่มี Thread ใดถูกใช้เพื่อรอสิทธิ์<br />
+		 * (คำสั่งที่ถือสิทธิ์อยู่แล้วรอผลของคำสั่งอื่นที่ต้องใช้สิทธิ์จาก
+		 * {@link Limit} เดียวกันจะ Deadlock เมื่อสิทธิ์หมด
+		 * {@link Factory#async(Supplier)} จึงประมวลผลคำสั่งซ้อนใน Thread
+		 * ที่เรียกแทน)
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.2.0
+		 * @author เสือไฮ่
+		 */
+		protected static final class Limit {
+			/**
+			 * จำนวนคำสั่งสูงสุดที่ประมวลผลพร้อมกันได้
+			 */
+			private final int limit;
+			/**
+			 * จำนวนสิทธิ์ในการประมวลผลคำสั่งที่เหลืออยู่
+			 */
+			private int available;
+			/**
+			 * คำสั่งที่รอสิทธิ์ในการประมวลผลตามลำดับ
+			 */
+			private final ArrayDeque<Runnable> waiting = new ArrayDeque<>();
+			/**
+			 * จำนวนสิทธิ์ที่ถูกคืนระหว่างที่ Thread ปัจจุบันกำลังส่งต่อสิทธิ์
+			 * ใน {@link #release()} (null : ไม่ได้ส่งต่อสิทธิ์อยู่)
+			 */
+			private final ThreadLocal<int[]> releasing = new ThreadLocal<>();
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Limit} Object
+			 *
+			 * @param limit
+			 *            {@link #limit}
+			 */
+			private Limit(int limit) {
+				this.limit = limit;
+				this.available = limit;
+			}
+
+			/**
+			 * ขอสิทธิ์ในการประมวลผล โดย <code>task</code>
+			 * จะถูกเรียกทันทีหากมีสิทธิ์เหลืออยู่ หรือเมื่อมีการคืนสิทธิ์ด้วย
+			 * {@link #release()} หากไม่มี
+			 *
+			 * @param task
+			 *            คำสั่งที่จะถูกเรียกเมื่อได้รับสิทธิ์
+			 */
+			private void acquire(Runnable task) {
+				synchronized (this) {
+					if (available == 0) {
+						waiting.add(task);
+						return;
+					}
+					available--;
+				}
+				task.run();
+			}
+
+			/**
+			 * คืนสิทธิ์ในการประมวลผล
+			 * โดยส่งต่อให้คำสั่งที่รออยู่ลำดับแรก (ถ้ามี)<br />
+			 * (สิทธิ์ที่ถูกคืนระหว่างการส่งต่อใน Thread เดียวกัน เช่น
+			 * {@link Executor} ที่ประมวลผลใน Thread ที่เรียก จะถูกส่งต่อใน
+			 * Loop เดิมแทนการเรียกซ้อนกัน)
+			 */
+			private void release() {
+				int[] pending = releasing.get();
+				if (pending != null) {
+					pending[0]++;
+					return;
+				}
+				releasing.set(pending = new int[] { 1 });
+				try {
+					while (pending[0] > 0) {
+						pending[0]--;
+						Runnable next;
+						synchronized (this) {
+							if ((next = waiting.poll()) == null) {
+								available++;
+								continue;
+							}
+						}
+						next.run();
+					}
+				} finally {
+					releasing.remove();
+				}
+			}
+		}
+
+		/**
+		 * Class ของผลลัพธ์ ({@code <}S{@code >}) ของ {@link Selector} แต่ละ Class
+		 * ที่ถูกเรียกใช้แล้ว
+		 *
+		 * @see Selector#clazz()
+		 */
+		private static final ClassValue<Class<?>> selected =
+				new ClassValue<Class<?>>() {
+					@Override
+					protected Class<?> computeValue(Class<?> clazz) {
+						Class<Selector<?, ?>> type = Cast.$(clazz);
+						return Generic.$(type, Selector.class, "S");
+					}
+				};
+
+		/**
+		 * Class <code>Model.Factory.Primary</code> สำหรับเก็บข้อมูลของ Primary
+		 * Key ของ {@link Entity} Class ซึ่งจะถูกสร้างเพียงครั้งเดียวต่อ Class
+		 * และเรียกค่า Primary Key ผ่าน {@link MethodHandle}
+		 * แทนการใช้ Reflection ทุกครั้ง
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 * @see Factory#primary(Class)
+		 */
+		protected static class Primary {
+			/**
+			 * {@link Primary} ของ {@link Entity} Class ทั้งหมดที่ถูกเรียกใช้แล้ว
+			 */
+			private static final ClassValue<Primary> registry =
+					new ClassValue<Primary>() {
+						@Override
+						protected Primary computeValue(Class<?> clazz) {
+							return new Primary(clazz);
+						}
+					};
+
+			/**
+			 * {@link Field} Primary Key ({@link Id} หรือ {@link EmbeddedId})
+			 */
+			protected final Field field;
+			/**
+			 * Class ของ Primary Key (กรณีเป็น Primitive Type จะเป็น Wrapper
+			 * Class)
+			 */
+			protected final Class<?> type;
+			/**
+			 * {@link MethodHandle} สำหรับเรียกค่า {@link #field} ในรูปแบบ
+			 * <code>(Object)Object</code>
+			 */
+			protected final MethodHandle getter;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Primary} Object
+			 *
+			 * @param clazz
+			 *            {@link Entity} Class ที่ต้องการ Primary Key
+			 * @throws NullPointerException
+			 *             <code>clazz</code> เป็น null
+			 * @throws IllegalArgumentException
+			 *             ไม่มี Primary Key ใน <code>clazz</code> ที่ระบุ
+			 *             หรือไม่สามารถเข้าถึง Primary Key ได้
+			 */
+			protected Primary(Class<?> clazz)
+					throws NullPointerException, IllegalArgumentException {
+				this(declared(clazz));
+			}
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Primary} Object จาก {@link Field}
+			 * Primary Key ที่กำหนด
+			 *
+			 * @param field
+			 *            {@link Field} Primary Key
+			 * @throws NullPointerException
+			 *             <code>field</code> เป็น null
+			 * @throws IllegalArgumentException
+			 *             ไม่สามารถเข้าถึง <code>field</code> ได้
+			 * @see Factory#pk(Class)
+			 */
+			protected Primary(Field field)
+					throws NullPointerException, IllegalArgumentException {
+				this.field = Invocable.override(field);
+				this.type = MethodType.methodType(field.getType()).wrap()
+						.returnType();
+				try {
+					this.getter = MethodHandles.lookup()
+							.unreflectGetter(this.field)
+							.asType(MethodType.methodType(
+									Object.class, Object.class));
+				} catch (IllegalAccessException e) {
+					throw new IllegalArgumentException(e);
+				}
+			}
+
+			/**
+			 * ค้นหา {@link Field} ที่มี {@link Id} หรือ {@link EmbeddedId}
+			 * จาก {@link Entity} Class และ Super Class
+			 *
+			 * @param clazz
+			 *            {@link Entity} Class ที่ต้องการ Primary Key
+			 * @return {@link Field} Primary Key
+			 * @throws NullPointerException
+			 *             <code>clazz</code> เป็น null
+			 * @throws IllegalArgumentException
+			 *             ไม่มี Primary Key ใน <code>clazz</code> ที่ระบุ
+			 */
+			private static Field declared(Class<?> clazz)
+					throws NullPointerException, IllegalArgumentException {
+				for (Class<?> c = clazz; c != Object.class;) {
+					for (Field field : c.getDeclaredFields()) {
+						if (field.getAnnotation(Id.class) != null || field
+								.getAnnotation(EmbeddedId.class) != null)
+							return field;
+					}
+					c = c.getSuperclass();
+				}
+				String msg = clazz.getName()
+						+ " is not @Id (or @EmbeddedId) present.";
+				throw new IllegalArgumentException(msg);
+			}
+
+			/**
+			 * เรียกค่า Primary Key จาก {@link Entity} Object
+			 *
+			 * @param entity
+			 *            {@link Entity} Object ที่ต้องการเรียกค่า Primary Key
+			 * @return ค่า Primary Key
+			 * @throws Throwable
+			 *             ไม่สามารถเรียกค่า Primary Key จาก <code>entity</code>
+			 *             ได้
+			 */
+			protected Object get(Object entity) throws Throwable {
+				return getter.invokeExact(entity);
+			}
+		}
+
+		/**
+		 * Class <code>Model.Factory.Generated</code> เป็น Class
+		 * สำหรับเก็บ Field ที่ Persistence Framework เป็นผู้กำหนดค่า
+		 * ({@link Version} และ {@link GeneratedValue}) ของ {@link Entity} Class
+		 * เพื่อใช้คัดลอกค่าเหล่านั้นกลับหลังการปรับปรุงข้อมูลโดยไม่ต้องคัดลอกทุก
+		 * Field
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 * @see Factory#lean(boolean)
+		 */
+		protected static class Generated {
+			/**
+			 * {@link Generated} ของ {@link Entity} Class ทั้งหมดที่ถูกเรียกใช้แล้ว
+			 */
+			private static final ClassValue<Generated> registry =
+					new ClassValue<Generated>() {
+						@Override
+						protected Generated computeValue(Class<?> clazz) {
+							return new Generated(clazz);
+						}
+					};
+
+			/**
+			 * {@link MethodHandle} สำหรับเรียกค่าแต่ละ Field ในรูปแบบ
+			 * <code>(Object)Object</code>
+			 */
+			private final MethodHandle[] getters;
+			/**
+			 * {@link MethodHandle} สำหรับกำหนดค่าแต่ละ Field ในรูปแบบ
+			 * <code>(Object, Object)void</code>
+			 */
+			private final MethodHandle[] setters;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Generated} Object
+			 *
+			 * @param clazz
+			 *            {@link Entity} Class
+			 * @throws NullPointerException
+			 *             <code>clazz</code> เป็น null
+			 * @throws IllegalArgumentException
+			 *             ไม่สามารถเข้าถึง Field ใน <code>clazz</code> ได้
+			 */
+			protected Generated(Class<?> clazz)
+					throws NullPointerException, IllegalArgumentException {
+				ArrayList<MethodHandle> getters = new ArrayList<>();
+				ArrayList<MethodHandle> setters = new ArrayList<>();
+				MethodType get =
+						MethodType.methodType(Object.class, Object.class);
+				MethodType set = MethodType.methodType(
+						void.class, Object.class, Object.class);
+				for (Class<?> c = clazz; c != Object.class;) {
+					for (Field field : c.getDeclaredFields()) {
+						if (field.getAnnotation(Version.class) == null
+								&& field.getAnnotation(
+										GeneratedValue.class) == null)
+							continue;
+						Field f = Invocable.override(field);
+						try {
+							getters.add(MethodHandles.lookup()
+									.unreflectGetter(f).asType(get));
+							setters.add(MethodHandles.lookup()
+									.unreflectSetter(f).asType(set));
+						} catch (IllegalAccessException e) {
+							throw new IllegalArgumentException(e);
+						}
+					}
+					c = c.getSuperclass();
+				}
+				this.getters = getters.toArray(new MethodHandle[0]);
+				this.setters = setters.toArray(new MethodHandle[0]);
+			}
+
+			/**
+			 * คัดลอกค่าของ Field ที่ Persistence Framework เป็นผู้กำหนด
+			 *
+			 * @param from
+			 *            {@link Entity} Object ต้นทาง
+			 * @param to
+			 *            {@link Entity} Object ปลายทาง
+			 * @throws Throwable
+			 *             ไม่สามารถคัดลอกค่าได้
+			 */
+			protected void copy(Object from, Object to) throws Throwable {
+				for (int i = 0; i < getters.length; i++) {
+					setters[i].invokeExact(to, getters[i].invokeExact(from));
+				}
+			}
+		}
+
+		/**
+		 * คำสั่ง JPQL ที่สร้างแล้วของ {@link Model} ทั้งหมดใน {@link Factory}
+		 */
+		public final StatementCache statements = new StatementCache(1024);
+		/**
+		 * ผลลัพธ์จากการค้นหาข้อมูลของ {@link Model} ทั้งหมดใน {@link Factory}
+		 * (ปิดการทำงานเป็นค่าเริ่มต้น เปิดได้ด้วย
+		 * {@link ResultCache#limit(int)})
+		 */
+		public final ResultCache results = new ResultCache(0, 0);
+		/**
+		 * {@link EntityManager} ที่ผูกไว้กับ Thread ปัจจุบันโดย
+		 * {@link #scope(boolean, Supplier)}
+		 */
+		private final ThreadLocal<EntityManager> scope = new ThreadLocal<>();
+		/**
+		 * {@link Entity} Class ที่ข้อมูลถูกเปลี่ยนแปลงภายใน
+		 * {@link EntityTransaction} ของ {@link #scope} และรอล้าง
+		 * {@link #results} เมื่อจบ Scope
+		 *
+		 * @see #invalidate(Class)
+		 */
+		private final ThreadLocal<Set<Class<?>>> invalidated =
+				new ThreadLocal<>();
+		/**
+		 * {@link Executor} สำหรับประมวลผลคำสั่งแบบ Asynchronous
+		 * (สร้างเมื่อถูกเรียกใช้ครั้งแรก)
+		 *
+		 * @see #executor()
+		 */
+		private volatile Executor executor;
+		/**
+		 * ตัวจำกัดจำนวนคำสั่งแบบ Asynchronous ที่ประมวลผลพร้อมกัน
+		 *
+		 * @see #concurrency(int)
+		 */
+		private volatile Limit concurrency = new Limit(32);
+		/**
+		 * {@link Limit} ที่คำสั่งแบบ Asynchronous ใน Thread ปัจจุบัน
+		 * ถือสิทธิ์อยู่ (null : ไม่ได้อยู่ใน {@link #async(Supplier)})
+		 */
+		private final ThreadLocal<Limit> running = new ThreadLocal<>();
+		/**
+		 * ตัวรับการแจ้งเตือนการทำงานของคำสั่ง (null : ไม่แจ้งเตือน)
+		 *
+		 * @see #monitor(Monitor)
+		 */
+		private volatile Monitor monitor;
+		/**
+		 * {@link Trace} ของคำสั่งที่กำลังทำงานอยู่ใน Thread ปัจจุบัน
+		 */
+		private final ThreadLocal<Trace> tracing = new ThreadLocal<>();
+
+		/**
+		 * จำนวน ID สูงสุดในคำสั่ง "IN" แต่ละครั้งของ
+		 * {@link #finds(Model, Object...)}
+		 */
+		private volatile int chunk = 500;
+		/**
+		 * ระบุว่าจะค้นหา ID แต่ละกลุ่มของ {@link #finds(Model, Object...)}
+		 * พร้อมกันผ่าน {@link #async(Supplier)} (คนละ {@link EntityManager})
+		 * หรือไม่
+		 */
+		private volatile boolean parallel;
+		/**
+		 * ระบุว่า {@link #put(Model, Iterable)} จะคัดลอกเฉพาะค่าของ Field
+		 * ที่ Persistence Framework เป็นผู้กำหนด ({@link Version} และ
+		 * {@link GeneratedValue}) กลับไปยังข้อมูลที่ส่งมา
+		 * แทนการคัดลอกค่าทุก Field
+		 */
+		private volatile boolean lean;
+		/**
+		 * ระบุว่าจะสร้างคำสั่ง JPQL แบบคงรูป (คำสั่งขึ้นอยู่กับโครงสร้างของ
+		 * {@link Criteria} เท่านั้น ไม่ขึ้นอยู่กับค่า null หรือรูปแบบของ
+		 * "LIKE" ใน Value) หรือไม่
+		 */
+		private volatile boolean stable;
+
+		/**
+		 * @return {@link #chunk}
+		 */
+		public int chunk() {
+			return chunk;
+		}
+
+		/**
+		 * กำหนดจำนวน ID สูงสุดในคำสั่ง "IN" แต่ละครั้ง
+		 *
+		 * @param chunk
+		 *            {@link #chunk}
+		 * @return Object ตัวเอง
+		 * @throws IllegalArgumentException
+		 *             <code>chunk</code> น้อยกว่า 1
+		 */
+		public Factory chunk(int chunk) throws IllegalArgumentException {
+			if (chunk < 1)
+				throw new IllegalArgumentException(
+						"Chunk size must be greater than 0.");
+			this.chunk = chunk;
+			return this;
+		}
+
+		/**
+		 * @return {@link #parallel}
+		 */
+		public boolean parallel() {
+			return parallel;
+		}
+
+		/**
+		 * กำหนดให้ค้นหา ID แต่ละกลุ่มพร้อมกันหรือไม่
+		 * (จำนวนกลุ่มที่ค้นหาพร้อมกันจำกัดด้วย {@link #concurrency()}
+		 * และภายใน {@link #scope(boolean, Supplier)} จะค้นหาตามลำดับเสมอ)
+		 *
+		 * @param parallel
+		 *            {@link #parallel}
+		 * @return Object ตัวเอง
+		 */
+		public Factory parallel(boolean parallel) {
+			this.parallel = parallel;
+			return this;
+		}
+
+		/**
+		 * @return {@link #lean}
+		 */
+		public boolean lean() {
+			return lean;
+		}
+
+		/**
+		 * กำหนดให้ {@link #put(Model, Iterable)} คัดลอกกลับเฉพาะค่า
+		 * {@link Version} และ {@link GeneratedValue} หรือไม่ (ค่าที่ถูกกำหนดใน
+		 * Callback เช่น {@link PreUpdate} จะไม่ถูกคัดลอกกลับ)
+		 *
+		 * @param lean
+		 *            {@link #lean}
+		 * @return Object ตัวเอง
+		 */
+		public Factory lean(boolean lean) {
+			this.lean = lean;
+			return this;
+		}
+
+		/**
+		 * @return {@link #stable}
+		 */
+		public boolean stable() {
+			return stable;
+		}
+
+		/**
+		 * กำหนดให้สร้างคำสั่ง JPQL แบบคงรูปหรือไม่ เพื่อให้ Query Cache
+		 * ของ Persistence Framework และ Statement Cache ของฐานข้อมูลใช้ซ้ำได้
+		 * มากขึ้น โดย Value ที่เป็น null จะถูกผูกเป็น Parameter (เช่น "="
+		 * จะเป็น "(e.field = ?1 OR ?1 IS NULL AND e.field IS NULL)")
+		 * และ Field ที่ประกาศเป็น {@link String} ที่ไม่ได้ระบุวิธีเปรียบเทียบ
+		 * จะใช้ "(e.field LIKE ?1 ESCAPE '!' OR ?1 IS NULL AND e.field IS
+		 * NULL)" เสมอไม่ว่า Value จะเป็น null หรือไม่ (ข้อความที่ไม่ใช่รูปแบบ
+		 * ของ "LIKE" จะถูก Escape ให้ผลลัพธ์เหมือน "=") ทั้งนี้ฐานข้อมูลบาง
+		 * ประเภทอาจใช้ Index กับคำสั่งเหล่านี้ได้น้อยกว่าคำสั่งปกติ
+		 * <p>
+		 * ฐานข้อมูลที่ไม่ยอมรับ Parameter ที่ไม่ระบุชนิดใน "?1 IS NULL"
+		 * เช่น DB2 และ Derby จะไม่สามารถใช้โหมดนี้ได้ และ PostgreSQL
+		 * อาจต้องผูก Parameter แบบระบุชนิด (เช่น ผ่าน Driver ที่ส่งชนิดของ
+		 * ค่า null ไปด้วย)
+		 * </p>
+		 *
+		 * @param stable
+		 *            {@link #stable}
+		 * @return Object ตัวเอง
+		 * @see Model#shapes()
+		 */
+		public Factory stable(boolean stable) {
+			this.stable = stable;
+			return this;
+		}
+
+		/**
+		 * ขยายจำนวน ID ให้เป็นขนาดมาตรฐาน (ยกกำลังของ 4 แต่ไม่เกิน
+		 * <code>chunk</code>) เพื่อให้คำสั่ง SQL ที่ได้มีเพียงไม่กี่รูปแบบ
+		 * และ Statement Cache ของฐานข้อมูลยังคงใช้ซ้ำได้
+		 *
+		 * @param size
+		 *            จำนวน ID จริง
+		 * @param chunk
+		 *            จำนวน ID สูงสุดในแต่ละกลุ่ม
+		 * @return จำนวน ID หลังขยายแล้ว
+		 */
+		protected static int bucket(int size, int chunk) {
+			int bucket = 1;
+			while (bucket < size && bucket < chunk) {
+				bucket <<= 2;
+			}
+			return Math.min(bucket, chunk);
+		}
+
+		/**
+		 * แบ่ง ID ออกเป็นกลุ่มละไม่เกิน {@link #chunk()} ตัว
+		 * และขยายแต่ละกลุ่มเป็นขนาดมาตรฐานด้วย ID ตัวสุดท้ายของกลุ่ม
+		 *
+		 * @param ids
+		 *            ID ทั้งหมด
+		 * @return ID ที่แบ่งเป็นกลุ่มแล้ว
+		 * @see #bucket(int, int)
+		 */
+		protected List<List<Object>> chunks(Collection<Object> ids) {
+			int chunk = this.chunk;
+			ArrayList<List<Object>> chunks = new ArrayList<>();
+			Iterator<Object> i = ids.iterator();
+			while (i.hasNext()) {
+				ArrayList<Object> list = new ArrayList<>();
+				while (i.hasNext() && list.size() < chunk) {
+					list.add(i.next());
+				}
+				Object last = list.get(list.size() - 1);
+				for (int size = bucket(list.size(), chunk); list.size() < size;) {
+					list.add(last);
+				}
+				chunks.add(list);
+			}
+			return chunks;
+		}
+
+		/**
+		 * สร้าง Property สำหรับเปิดใช้งาน JDBC Batch Writing ของ
+		 * {@link EntityManagerFactory} (EclipseLink) เพื่อให้คำสั่ง INSERT,
+		 * UPDATE และ DELETE ถูกส่งไปยังฐานข้อมูลเป็นกลุ่ม
+		 *
+		 * @param size
+		 *            จำนวนคำสั่งสูงสุดในแต่ละกลุ่ม
+		 * @return Property สำหรับใช้ในการสร้าง {@link EntityManagerFactory}
+		 * @see UnitName#UnitName(String, Map, Class...)
+		 * @see Persistence#createEntityManagerFactory(String, Map)
+		 */
+		public static Map<String, Object> batching(int size) {
+			HashMap<String, Object> properties = new HashMap<>();
+			properties.put("eclipselink.jdbc.batch-writing", "JDBC");
+			properties.put("eclipselink.jdbc.batch-writing.size",
+					String.valueOf(size));
+			return properties;
+		}
+
+		/**
+		 * Class ของ {@link Model} ที่จะใช้ในการสร้าง {@link Model} Object
+		 *
+		 * @see #create(Class, String)
+		 */
+		private final Class<? extends Model<?>>[] register;
+		/**
+		 * {@link Creator} ที่ใช้สร้าง {@link Model} ของแต่ละ {@link Entity}
+		 * Class (สร้างเมื่อเรียก {@link #create(Class, String)} ครั้งแรก)
+		 */
+		private final ConcurrentHashMap<Class<?>,
+				Creator> creators = new ConcurrentHashMap<>();
+		/**
+		 * {@link Primary} ของ {@link Field} ที่ได้จาก {@link #pk(Class)}
+		 * ซึ่งถูก Override ให้ต่างจาก {@link Id} หรือ {@link EmbeddedId}
+		 *
+		 * @see #primary(Class)
+		 */
+		private final ConcurrentHashMap<Field,
+				Primary> primaries = new ConcurrentHashMap<>();
+		/**
+		 * คำสั่ง JPQL ที่แตกต่างกันที่ {@link Model} เคยสร้าง
+		 * ตาม {@link Entity} Class และ Alias Name
+		 *
+		 * @see #shaped(Model, String)
+		 */
+		private final ConcurrentHashMap<String,
+				Set<String>> shapes = new ConcurrentHashMap<>();
+		/**
+		 * คำสั่ง JPQL ที่ถูกประกาศไว้สำหรับอุ่นเครื่องใน
+		 * {@link #warmup(Class...)} และ {@link Model} ที่ประกาศคำสั่ง
+		 *
+		 * @see #warm(Model, Selector, CharSequence, Object...)
+		 */
+		private final ConcurrentHashMap<String,
+				Model<?>> warmups = new ConcurrentHashMap<>();
+		/**
+		 * ชื่อ Named Query ตามคำสั่ง JPQL ของแต่ละ
+		 * {@link EntityManagerFactory} ที่ลงทะเบียนไว้ (เมื่อ
+		 * {@link EntityManagerFactory} ถูกสร้างใหม่ จะไม่มี Named Query เดิม)
+		 *
+		 * @see #prepare(Model, Selector, CharSequence, Object...)
+		 */
+		private final Map<EntityManagerFactory, ConcurrentHashMap<String,
+				String>> prepared = Collections.synchronizedMap(
+						new WeakHashMap<>());
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Factory} Object
+		 *
+		 * @param register
+		 *            {@link #register}
+		 */
+		@SafeVarargs
+		public Factory(Class<? extends Model<?>>... register) {
+			this.register = register;
+		}
+
+		/**
+		 * สร้าง Instance ของ {@link Model} จาก {@link Class} ที่ระบุ
+		 *
+		 * @param clazz
+		 *            {@link Class} ที่ต้องการสร้าง Instance
+		 * @param alias
+		 *            ชื่อ Alias Name ใน Model
+		 * @return Instance ของ {@link Model}
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @throws InvocationTargetException
+		 *             เกิด {@link Throwable} ขึ้นในการสร้าง Instance
+		 * @throws NoSuchMethodException
+		 *             ไม่มี {@link Constructor} สำหรับสร้าง Instance
+		 */
+		protected Model<?> found(Class<? extends Model<?>> clazz, String alias)
+				throws NullPointerException,
+				InvocationTargetException,
+				NoSuchMethodException {
+			return found(clazz, alias, null);
+		}
+
+		/**
+		 * สร้าง Instance ของ {@link Model} จาก {@link Class} ที่ระบุ
+		 * พร้อมเก็บ {@link Constructor} ที่ใช้สร้าง
+		 *
+		 * @param clazz
+		 *            {@link Class} ที่ต้องการสร้าง Instance
+		 * @param alias
+		 *            ชื่อ Alias Name ใน Model
+		 * @param found
+		 *            Array สำหรับเก็บ {@link Constructor} ที่ใช้สร้าง (null :
+		 *            ไม่เก็บ)
+		 * @return Instance ของ {@link Model}
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @throws InvocationTargetException
+		 *             เกิด {@link Throwable} ขึ้นในการสร้าง Instance
+		 * @throws NoSuchMethodException
+		 *             ไม่มี {@link Constructor} สำหรับสร้าง Instance
+		 */
+		private Model<?> found(Class<? extends Model<?>> clazz,
+				String alias,
+				Constructor<?>[] found)
+				throws NullPointerException,
+				InvocationTargetException,
+				NoSuchMethodException {
+			return new Invocable<>(clazz).found(c -> {
+				if (found != null) {
+					found[0] = c;
+				}
+				return true;
+			}, (i, p) -> argument(p.getType(), clazz, alias));
+		}
+
+		/**
+		 * เรียกค่า Parameter ของ {@link Constructor} ของ {@link Model}
+		 * ตามประเภทของ Parameter
+		 *
+		 * @param type
+		 *            ประเภทของ Parameter
+		 * @param clazz
+		 *            ค่าของ Parameter ประเภท {@link Class}
+		 * @param alias
+		 *            ค่าของ Parameter ประเภท {@link String}
+		 * @return ค่าของ Parameter หรือ null หากไม่รู้จักประเภทของ Parameter
+		 */
+		private Object argument(Class<?> type, Class<?> clazz, String alias) {
+			if (type == Class.class)
+				return clazz;
+			else if (type == Factory.class)
+				return Factory.this;
+			else if (type == EntityManagerFactory.class)
+				return factory(f -> f);
+			else if (type == String.class)
+				return alias;
+			else return null;
+		}
+
+		/**
+		 * Class <code>Model.Factory.Creator</code> เป็น Class
+		 * สำหรับเก็บ {@link MethodHandle} ของ {@link Constructor} ของ
+		 * {@link Model} ที่เลือกไว้แล้ว เพื่อให้
+		 * {@link Factory#create(Class, String)} ไม่ต้องค้นหา Generic Class
+		 * และ {@link Constructor} ซ้ำ
+		 *
+		 * @since JDK 1.8, jpa-model 2.0
+		 * @version 1.0.0
+		 * @author เสือไฮ่
+		 */
+		protected final class Creator {
+			/**
+			 * ค่าของ Parameter ประเภท {@link Class}
+			 */
+			private final Class<?> clazz;
+			/**
+			 * ประเภทของ Parameter ของ {@link Constructor}
+			 */
+			private final Class<?>[] types;
+			/**
+			 * {@link MethodHandle} ของ {@link Constructor} ในรูปแบบ
+			 * <code>(Object[])Model</code>
+			 */
+			private final MethodHandle handle;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Creator} Object
+			 *
+			 * @param constructor
+			 *            {@link Constructor} ของ {@link Model}
+			 * @param clazz
+			 *            {@link #clazz}
+			 * @throws IllegalAccessException
+			 *             ไม่สามารถเข้าถึง <code>constructor</code> ได้
+			 */
+			protected Creator(Constructor<?> constructor, Class<?> clazz)
+					throws IllegalAccessException {
+				this.clazz = clazz;
+				this.types = constructor.getParameterTypes();
+				this.handle = MethodHandles.lookup()
+						.unreflectConstructor(Invocable.override(constructor))
+						.asSpreader(Object[].class, types.length)
+						.asType(MethodType.methodType(
+								Model.class, Object[].class));
+			}
+
+			/**
+			 * สร้าง Instance ของ {@link Model}
+			 *
+			 * @param alias
+			 *            ชื่อ Alias Name ใน Model
+			 * @return Instance ของ {@link Model}
+			 * @throws Throwable
+			 *             เกิด {@link Throwable} ขึ้นในการสร้าง Instance
+			 */
+			protected Model<?> create(String alias) throws Throwable {
+				Object[] args = new Object[types.length];
+				for (int i = 0; i < args.length; i++) {
+					args[i] = argument(types[i], clazz, alias);
+				}
+				return (Model<?>) handle.invokeExact(args);
+			}
+		}
+
+		/**
+		 * เรียก {@link Field} Primary Key จาก {@link Entity} Class
+		 * ที่ต้องการได้
+		 *
+		 * @param clazz
+		 *            {@link Entity} Class ที่ต้องการ Primary Key
+		 * @return {@link Field} Primary Key ของ {@link Entity} Class ที่ต้องการ
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่มี Primary Key ใน <code>clazz</code> ที่ระบุ
+		 * @see Id
+		 * @see EmbeddedId
+		 * @see Class#getDeclaredFields()
+		 * @see #primary(Class)
+		 */
+		protected <E> Field pk(Class<E> clazz)
+				throws NullPointerException, IllegalArgumentException {
+			return Primary.registry.get(clazz).field;
+		}
+
+		/**
+		 * เรียกข้อมูลของ Primary Key จาก {@link Entity} Class ที่ต้องการได้
+		 * (ข้อมูลจะถูกสร้างเพียงครั้งเดียวต่อ Class)<br />
+		 * หาก {@link #pk(Class)} ถูก Override ให้คืนค่า {@link Field}
+		 * อื่น จะใช้ {@link Primary} ของ {@link Field} นั้นแทน
+		 * (ข้อมูลจะถูกสร้างเพียงครั้งเดียวต่อ {@link Field})
+		 *
+		 * @param clazz
+		 *            {@link Entity} Class ที่ต้องการ Primary Key
+		 * @return {@link Primary} ของ {@link Entity} Class ที่ต้องการ
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่มี Primary Key ใน <code>clazz</code> ที่ระบุ
+		 * @see Primary
+		 */
+		protected Primary primary(Class<?> clazz)
+				throws NullPointerException, IllegalArgumentException {
+			Primary primary = Primary.registry.get(clazz);
+			Field field = pk(clazz);
+			if (field.equals(primary.field)) return primary;
+			return primaries.computeIfAbsent(field, Primary::new);
+		}
+
+		/**
+		 * เรียกข้อมูลของ Field ที่ Persistence Framework เป็นผู้กำหนดค่าจาก
+		 * {@link Entity} Class ที่ต้องการได้ (ข้อมูลจะถูกสร้างเพียงครั้งเดียวต่อ
+		 * Class)
+		 *
+		 * @param clazz
+		 *            {@link Entity} Class ที่ต้องการ
+		 * @return {@link Generated} ของ {@link Entity} Class ที่ต้องการ
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถเข้าถึง Field ใน <code>clazz</code> ได้
+		 * @see Generated
+		 */
+		protected Generated generated(Class<?> clazz)
+				throws NullPointerException, IllegalArgumentException {
+			return Generated.registry.get(clazz);
+		}
+
+		/**
+		 * เรียกค่า ID จาก {@link Entity} Object
+		 *
+		 * @param clazz
+		 *            {@link Entity} Class ที่ต้องการเรียกค่า ID
+		 * @param entity
+		 *            {@link Entity} Object ที่ต้องการเรียกค่า ID
+		 * @return ID ของ {@link Entity} Object
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             <code>entity</code> ไม่ใช่ Object ของ <code>clazz</code>
+		 *             หรือ ไม่ใช่ Object ของ PK ของ <code>clazz</code>
+		 */
+		protected <E> Object id(Class<E> clazz, Object entity)
+				throws NullPointerException, IllegalArgumentException {
+			Primary pk = primary(clazz);
+			if (clazz.isInstance(entity)) {
+				try {
+					return pk.get(entity);
+				} catch (Throwable e) {
+					throw new IllegalArgumentException(e);
+				}
+			} else if (pk.type.isInstance(entity)) return entity;
+			try (Formatter f = new Formatter()) {
+				f.format("%s is not instance of %s or %s.%s (%s).",
+						entity, clazz.getName(), clazz.getSimpleName(),
+						pk.field.getName(), pk.field.getType().getName());
+				throw new IllegalArgumentException(f.toString());
+			}
+		}
+
+		/**
+		 * ตรวจสอบว่าใน Keyword สำหรับการอ้าง Field ใน Entity Class มีตัวแปร
+		 * Alias Name อยู่แล้วหรือไม่
+		 *
+		 * @param model
+		 *            {@link Model} ของ Entity Class
+		 * @param keyword
+		 *            Keyword ที่ต้องการตรวจสอบ
+		 * @return true หากใน <code>keyword</code> มี Alias Name อยู่แล้ว
+		 * @see Model#alias
+		 */
+		protected boolean hasAlias(Model<?> model, String keyword) {
+			try {
+				Pattern pattern = model.alias;
+				if (pattern == null) {
+					String as = Pattern.quote(model.as);
+					StringBuilder builder = new StringBuilder()
+							.append("^ *").append(as).append(" *$")
+							.append("|^ *").append(as).append("\\.")
+							.append("|\\W").append(as).append("\\.")
+							.append("|\\( *").append(as).append(" *\\)");
+					model.alias = pattern = Pattern.compile(builder.toString());
+				}
+				return pattern.matcher(keyword).find();
+			} catch (Throwable e) {
+				return false;
+			}
+		}
+
+		/**
+		 * สร้างคำสั่ง JPQL และ Parameter ที่จะนำไปสร้างเป็น {@link Query}
+		 *
+		 * @param model
+		 *            {@link Model} ที่ต้องสร้างคำสั่ง JPQL
+		 * @param statement
+		 *            {@link StringBuilder} สำหรับใช้ในการสร้างคำสั่ง JPQL
+		 * @param params
+		 *            Parameter
+		 * @return Parameter ใน <code>statement</code>
+		 * @throws NullPointerException
+		 *             <code>model</code> หรือ <code>statement</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถสร้างคำสั่งตาม <code>model</code>,
+		 *             <code>statement</code> และ <code>params</code>
+		 *             ที่กำหนดได้
+		 * @see Model.Factory.Statement#build(Model, StringBuilder, List)
+		 */
+		protected Object[] build(
+				Model<?> model, StringBuilder statement, Object... params)
+				throws NullPointerException, IllegalArgumentException {
+			if (params == null || params.length == 0) return params;
+			else if (params[0] instanceof Map) {
+				ArrayList<Object> list = new ArrayList<>();
+				Map<String, Object> map = Cast.$(params[0]);
+				for (Object param : params) {
+					if (param instanceof Statement) {
+						((Statement) param).build(model, statement, map);
+					} else {
+						list.add(param);
+					}
+				}
+				return list.toArray();
+			} else {
+				ArrayList<Object> list = new ArrayList<>();
+				for (Object param : params) {
+					if (param instanceof Statement) {
+						((Statement) param).build(model, statement, list);
+					} else {
+						list.add(param);
+					}
+				}
+				return list.toArray();
+			}
+		}
+
+		/**
+		 * ผูกค่า Parameter โดยไม่ต้องสร้างคำสั่ง JPQL
+		 * (ใช้แทน {@link #build(Model, StringBuilder, Object...)}
+		 * เมื่อพบคำสั่งใน {@link #statements} แล้ว)
+		 *
+		 * @param params
+		 *            Parameter
+		 * @return Parameter ของคำสั่ง
+		 * @throws IllegalArgumentException
+		 *             <code>params</code> ไม่ถูกต้อง
+		 * @see Model.Factory.Statement#bind(Map, List)
+		 */
+		protected Object[] bind(Model<?> model, Object... params)
+				throws IllegalArgumentException {
+			if (params == null || params.length == 0) return params;
+			ArrayList<Object> list = new ArrayList<>();
+			Map<String, Object> map = params[0] instanceof Map
+					? Cast.$(params[0]) : null;
+			for (Object param : params) {
+				if (param instanceof Statement) {
+					((Statement) param)
+							.bind(model, map, map == null ? list : null);
+				} else {
+					list.add(param);
+				}
+			}
+			return list.toArray();
+		}
+
+		/**
+		 * สร้างรูปแบบโครงสร้างของ {@link Statement} ที่อยู่ใน Parameter
+		 *
+		 * @param key
+		 *            {@link StringBuilder}
+		 *            สำหรับใช้ในการสร้างรูปแบบโครงสร้างของคำสั่ง
+		 * @param params
+		 *            Parameter
+		 * @return true หากสามารถระบุรูปแบบโครงสร้างได้ทั้งหมด
+		 * @see Model.Factory.Statement#shape(StringBuilder)
+		 */
+		protected boolean shape(
+				Model<?> model, StringBuilder key, Object... params) {
+			if (params == null || params.length == 0) return true;
+			key.append(params[0] instanceof Map ? 'N' : 'I');
+			for (Object param : params) {
+				if (param instanceof Statement) {
+					if (!((Statement) param).shape(model, key)) return false;
+				} else {
+					key.append('\0');
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * สร้างคำสั่งระบุเงื่อนไขจาก {@link Criteria} โดยใช้คำสั่งที่เก็บไว้ใน
+		 * {@link #statements} หากมีรูปแบบโครงสร้างเดียวกัน
+		 *
+		 * @param model
+		 *            {@link Model} ที่ต้องสร้าง {@link Criteria}
+		 * @param criteria
+		 *            {@link Criteria} ที่ต้องการสร้างคำสั่ง
+		 * @param named
+		 *            Parameter แบบตั้งชื่อ
+		 * @param index
+		 *            Parameter แบบลำดับ (ใช้เมื่อ <code>named</code> เป็น null)
+		 * @return คำสั่งระบุเงื่อนไข
+		 * @throws NullPointerException
+		 *             <code>model</code> หรือ <code>criteria</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             <code>criteria</code>, <code>named</code> หรือ
+		 *             <code>index</code> ไม่ถูกต้อง
+		 * @see Model.Factory.Statement#shape(StringBuilder)
+		 * @see Model.Factory.Statement#bind(Map, List)
+		 */
+		protected CharSequence build(Model<?> model,
+				Criteria criteria,
+				Map<String, Object> named,
+				List<Object> index)
+				throws NullPointerException, IllegalArgumentException {
+			StringBuilder shape = new StringBuilder();
+			if (named == null) {
+				shape.append('I').append(index.size());
+			} else {
+				shape.append('N');
+			}
+			Object key = criteria.shape(model, shape)
+					? Arrays.asList(model.clazz, model.as, shape.toString())
+					: null;
+			String statement = statements.get(key);
+			if (statement != null) {
+				criteria.bind(model, named, index);
+				return statement;
+			}
+			StringBuilder builder = new StringBuilder();
+			criteria.build(model, builder, named, index);
+			return statements.put(key, builder.toString());
+		}
+
+		/**
+		 * สร้างคำสั่ง JPQL และ Parameter ของคำสั่ง ตามรูปแบบการปฏิบัติต่อฐานข้อมูล
+		 * โดยใช้คำสั่งที่เก็บไว้ใน {@link #statements} หากมีรูปแบบโครงสร้างเดียวกัน
+		 *
+		 * @param model
+		 *            {@link Model} ที่ต้องสร้างคำสั่ง JPQL
+		 * @param operation
+		 *            รูปแบบการปฏิบัติต่อฐานข้อมูล ("SELECT", "UPDATE" หรือ
+		 *            "DELETE")
+		 * @param clause
+		 *            คำสั่งระบุผลลัพธ์ของการค้นหา (กรณี "SELECT", null :
+		 *            {@link Entity} Object) หรือ คำสั่งกำหนดค่า (กรณี
+		 *            "UPDATE")
+		 * @param criteria
+		 *            คำสั่งระบุเงื่อนไข
+		 * @param params
+		 *            Parameter ใน <code>clause</code> และ
+		 *            <code>criteria</code>
+		 * @return คำสั่ง JPQL และ Parameter ของคำสั่ง
+		 * @throws NullPointerException
+		 *             <code>model</code> หรือ <code>operation</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถสร้างคำสั่งตาม <code>params</code> ที่กำหนดได้
+		 * @see #build(Model, StringBuilder, Object...)
+		 * @see #bind(Object...)
+		 */
+		protected Compiled compile(Model<?> model,
+				String operation,
+				CharSequence clause,
+				CharSequence criteria,
+				Object... params)
+				throws NullPointerException, IllegalArgumentException {
+			StringBuilder shape = new StringBuilder();
+			Object key = shape(model, shape, params)
+					? Arrays.asList(model.clazz, model.as, operation,
+							clause == null ? null : clause.toString(),
+							criteria == null ? null : criteria.toString(),
+							shape.toString())
+					: null;
+			String statement = statements.get(key);
+			if (statement != null) return new Compiled(
+					shaped(model, statement), bind(model, params));
+			StringBuilder builder = new StringBuilder(operation);
+			if (operation.equals("UPDATE")) {
+				builder.append(' ').append(model.clazz.getSimpleName())
+						.append(' ').append(model.as)
+						.append(" SET ").append(clause);
+			} else if (operation.equals("DELETE")) {
+				builder.append(" FROM ").append(model.clazz.getSimpleName())
+						.append(' ').append(model.as);
+			} else {
+				builder.append(' ').append(clause == null ? model.as : clause)
+						.append(" FROM ").append(model.clazz.getSimpleName())
+						.append(' ').append(model.as);
+			}
+			if (criteria != null && criteria.length() > 0) {
+				builder.append(" WHERE ").append(criteria);
+			}
+			params = build(model, builder, params);
+			return new Compiled(shaped(model,
+					statements.put(key, builder.toString())), params);
+		}
+
+		/**
+		 * บันทึกคำสั่ง JPQL ที่ {@link Model} สร้างขึ้น
+		 * เพื่อนับจำนวนรูปแบบของคำสั่งที่แตกต่างกัน (สูงสุด
+		 * {@link Model#SHAPES} รูปแบบต่อ {@link Entity} Class และ Alias Name)
+		 *
+		 * @param model
+		 *            {@link Model} ที่สร้างคำสั่ง
+		 * @param statement
+		 *            คำสั่ง JPQL
+		 * @return <code>statement</code>
+		 * @see #shapes(Model)
+		 */
+		protected String shaped(Model<?> model, String statement) {
+			Set<String> shaped = shapes.computeIfAbsent(
+					model.clazz.getName() + ' ' + model.as,
+					key -> ConcurrentHashMap.newKeySet());
+			if (shaped.size() < SHAPES) {
+				shaped.add(statement);
+			}
+			return statement;
+		}
+
+		/**
+		 * นับจำนวนรูปแบบของคำสั่ง JPQL ที่แตกต่างกันที่ {@link Model}
+		 * ของ {@link Entity} Class และ Alias Name เดียวกันเคยสร้าง
+		 * (นับรวมทุก {@link Model} Object ที่สร้างจาก {@link Factory} นี้)
+		 *
+		 * @param model
+		 *            {@link Model} ที่ต้องการนับ
+		 * @return จำนวนรูปแบบของคำสั่ง (สูงสุด {@link Model#SHAPES})
+		 * @see #shaped(Model, String)
+		 */
+		protected int shapes(Model<?> model) {
+			Set<String> shaped = shapes.get(model.clazz.getName() + ' '
+					+ model.as);
+			return shaped == null ? 0 : shaped.size();
+		}
+
+		/**
+		 * ผูกค่า Parameter เข้ากับ {@link Query}
+		 * ที่จะใช้ในการเข้าถึงหรือปฏิบัติต่อฐานข้อมูล
+		 *
+		 * @param query
+		 *            {@link Query} ในการเข้าถึงหรือปฏิบัติต่อฐานข้อมูล
+		 * @param params
+		 *            Parameter ที่ต้องการผูกกับ {@link Query}
+		 * @return <code>query</code>
+		 * @throws NullPointerException
+		 *             <code>query</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             การผูก <code>params</code> เข้ากับ <code>query</code>
+		 *             ไม่ถูกต้อง
+		 * @see Injector
+		 * @see Query#setParameter(int, Object)
+		 * @see Query#setParameter(String, Object)
+		 */
+		protected <Q extends Query> Q inject(Q query, Object... params)
+				throws NullPointerException, IllegalArgumentException {
+			if (params == null || params.length == 0) {
+				for (Parameter<?> parameter : query.getParameters()) {
+					if (!query.isBound(parameter))
+						throw new IllegalArgumentException(
+								parameter + " was not bound.");
+				}
+				return query;
+			}
+			ArrayList<Object> list = new ArrayList<>();
+			for (Object param : params) {
+				if (param instanceof Injector) {
+					((Injector) param).inject(query);
+				} else {
+					list.add(param);
+				}
+			}
+			if (list.size() > 1) {
+				int i = 1;
+				for (Object param : list) {
+					if (param instanceof Injector) {
+						((Injector) param).inject(query);
+					} else {
+						query.setParameter(i++, param);
+					}
+				}
+			} else if (list.size() == 1) {
+				Object param = list.get(0);
+				if (param == null) {
+					query.setParameter(1, null);
+				} else if (param instanceof Map) {
+					for (Map.Entry<?, ?> entry : ((Map<?, ?>) param)
+							.entrySet()) {
+						Object value = entry.getValue();
+						if (value instanceof Injector) {
+							((Injector) value).inject(query);
+						} else {
+							try {
+								String key = entry.getKey().toString();
+								query.setParameter(key, value);
+							} catch (java.lang.NullPointerException e) {}
+						}
+					}
+				} else if ((param instanceof Iterable
+						|| param instanceof Iterator
+						|| param.getClass().isArray())
+						&& query.getParameters().size() > 1)
+					return inject(query, Cast.$(Object[].class, param));
+				else {
+					query.setParameter(1, param);
+				}
+			}
+			return inject(query);
+		}
+
+		/**
+		 * เพิ่มข้อมูลลงฐานข้อมูล
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param entities
+		 *            ข้อมูลที่ต้องการเพิ่มลงฐาน
+		 * @return true หากเพิ่มข้อมูลในฐานได้สำเร็จ
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @see #transaction(Function)
+		 * @see EntityManager#persist(Object)
+		 */
+		protected <E> boolean add(Model<E> model, Iterable<E> entities)
+				throws NullPointerException {
+			try {
+				return trace(model, "add", null, () -> transaction(manager -> {
+					for (E entity : entities) {
+						manager.persist(entity);
+					}
+					return true;
+				}), result -> rows(entities), false);
+			} finally {
+				invalidate(model.clazz);
+			}
+		}
+
+		/**
+		 * เพิ่มข้อมูลจำนวนมากลงฐานข้อมูลภายใน {@link EntityTransaction}
+		 * เดียว โดยแบ่งข้อมูลออกเป็นกลุ่มๆ และส่งคำสั่งไปยังฐานข้อมูล
+		 * ({@link EntityManager#flush()}) พร้อมล้าง Persistence Context
+		 * ({@link EntityManager#clear()}) ทุกครั้งที่จบกลุ่ม
+		 * เพื่อไม่ให้หน่วยความจำเพิ่มขึ้นตามจำนวนข้อมูล
+		 * <br />
+		 * (หากกลุ่มใดเพิ่มข้อมูลไม่สำเร็จ ข้อมูลทุกกลุ่มจะไม่ถูกเพิ่ม
+		 * และจะใช้ {@link EntityManager} ของตัวเองเสมอ แม้อยู่ใน
+		 * {@link #scope(boolean, Supplier)})
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param entities
+		 *            ข้อมูลที่ต้องการเพิ่มลงฐาน
+		 * @param size
+		 *            จำนวนข้อมูลในแต่ละกลุ่ม
+		 * @return จำนวนข้อมูลที่เพิ่มได้ในแต่ละกลุ่มตามลำดับ
+		 *         (หากไม่สำเร็จทุกกลุ่มจะเป็น -1)
+		 * @throws NullPointerException
+		 *             <code>model</code> หรือ <code>entities</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             <code>size</code> น้อยกว่า 1
+		 * @see #add(Model, Iterable, int, boolean)
+		 * @see #batching(int)
+		 */
+		protected <E> int[] add(Model<E> model, Iterable<E> entities, int size)
+				throws NullPointerException, IllegalArgumentException {
+			return add(model, entities, size, false);
+		}
+
+		/**
+		 * เพิ่มข้อมูลจำนวนมากลงฐานข้อมูล โดยแบ่งข้อมูลออกเป็นกลุ่มๆ
+		 * และล้าง Persistence Context ({@link EntityManager#clear()})
+		 * ทุกครั้งที่จบกลุ่ม เพื่อไม่ให้หน่วยความจำเพิ่มขึ้นตามจำนวนข้อมูล
+		 * <br />
+		 * (จะใช้ {@link EntityManager} ของตัวเองเสมอ แม้อยู่ใน
+		 * {@link #scope(boolean, Supplier)})
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param entities
+		 *            ข้อมูลที่ต้องการเพิ่มลงฐาน
+		 * @param size
+		 *            จำนวนข้อมูลในแต่ละกลุ่ม
+		 * @param partial
+		 *            true : แต่ละกลุ่มจะถูกเพิ่มใน {@link EntityTransaction}
+		 *            ของตัวเอง หากกลุ่มใดเพิ่มข้อมูลไม่สำเร็จ จะหยุดการทำงาน
+		 *            โดยกลุ่มก่อนหน้าที่สำเร็จแล้วจะยังคงอยู่ในฐานข้อมูล,
+		 *            false : ทุกกลุ่มจะถูกเพิ่มใน {@link EntityTransaction}
+		 *            เดียว และส่งคำสั่งไปยังฐานข้อมูลด้วย
+		 *            {@link EntityManager#flush()} ทุกครั้งที่จบกลุ่ม
+		 * @return จำนวนข้อมูลที่เพิ่มได้ในแต่ละกลุ่มตามลำดับ
+		 *         (กลุ่มที่เพิ่มไม่สำเร็จหรือถูกยกเลิกจะเป็น -1)
+		 * @throws NullPointerException
+		 *             <code>model</code> หรือ <code>entities</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             <code>size</code> น้อยกว่า 1
+		 * @see #batching(int)
+		 * @see EntityManager#persist(Object)
+		 * @see EntityManager#flush()
+		 * @see EntityManager#clear()
+		 */
+		protected <E> int[] add(Model<E> model, Iterable<E> entities, int size,
+				boolean partial)
+				throws NullPointerException, IllegalArgumentException {
+			if (size < 1)
+				throw new IllegalArgumentException("size < 1");
+			Iterator<E> i = entities.iterator();
+			ArrayList<Integer> batches = new ArrayList<>();
+			try {
+				if (!trace(model, "add", null, () -> factory(factory -> {
+					EntityManager manager = factory.createEntityManager();
+					EntityTransaction transaction = manager.getTransaction();
+					try {
+						manager.setFlushMode(FlushModeType.COMMIT);
+						if (!partial) {
+							transaction.begin();
+						}
+						while (i.hasNext()) {
+							int count = 0;
+							if (partial) {
+								transaction.begin();
+							}
+							try {
+								for (; count < size && i.hasNext(); count++) {
+									manager.persist(i.next());
+								}
+								if (partial) {
+									transaction.commit();
+								} else {
+									manager.flush();
+								}
+							} finally {
+								if (partial && transaction.isActive()) {
+									transaction.rollback();
+								}
+								manager.clear();
+							}
+							batches.add(count);
+						}
+						if (!partial) {
+							transaction.commit();
+						}
+						return true;
+					} finally {
+						if (transaction.isActive()) {
+							transaction.rollback();
+						}
+						manager.close();
+					}
+				}), result -> {
+					int rows = 0;
+					for (int count : batches) {
+						rows += Math.max(count, 0);
+					}
+					return rows;
+				}, false)) {
+					if (!partial) {
+						batches.replaceAll(count -> -1);
+					}
+					batches.add(-1);
+				}
+			} finally {
+				results.invalidate(model.clazz);
+			}
+			int[] result = new int[batches.size()];
+			for (int b = 0; b < result.length; b++) {
+				result[b] = batches.get(b);
+			}
+			return result;
+		}
+
+		/**
+		 * ปรับปรุงข้อมูลในฐานข้อมูล
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param entities
+		 *            ข้อมูลที่ต้องการให้ปรับปรุงในฐาน
+		 * @return true หากปรับปรุงข้อมูลในฐานได้สำเร็จ
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @see #transaction(Function)
+		 * @see EntityManager#merge(Object)
+		 * @see #lean(boolean)
+		 */
+		protected <E> boolean put(Model<E> model, Iterable<E> entities)
+				throws NullPointerException {
+			ArrayList<E[]> merged = new ArrayList<>();
+			try {
+				return trace(model, "put", null, () -> transaction(manager -> {
+					for (E entity : entities) {
+						E copy = manager.merge(entity);
+						if (copy != entity) {
+							merged.add(Cast.array(entity, copy));
+						}
+					}
+					return true;
+				}), result -> rows(entities), false);
+			} finally {
+				invalidate(model.clazz);
+				if (lean) {
+					try {
+						for (E[] entry : merged) {
+							generated(entry[0].getClass())
+									.copy(entry[1], entry[0]);
+						}
+					} catch (Throwable e) {
+						model.caught(e);
+					}
+				} else {
+					for (E[] entry : merged) {
+						Cast.clone(entry[0], entry[1]);
+					}
+				}
+			}
+		}
+
+		/**
+		 * ปรับปรุงข้อมูลในฐานข้อมูลโดยการกำหนดค่าและระบุเงื่อนไขของข้อมูลที่ต้องการ
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param values
+		 *            ค่าที่ต้องกำหนดให้กับข้อมูลที่จะปรับปรุง
+		 * @param criteria
+		 *            เงื่อนใขในการระบุข้อมูลที่ต้องการปรับปรุง
+		 * @param params
+		 *            Parameter ใน <code>values</code> และ <code>criteria</code>
+		 *            (รวมกันโดยที่ Parameter ใน <code>value</code> ขึ้นก่อน
+		 *            และตามด้วย <code>criteria</code> ต่อเลย)
+		 * @return จำนวนข้อมูลที่ถูกแก้ใขให้มีผลตาม<code>value</code>ที่ระบุ
+		 *         <br />
+		 *         (ไม่ว่าจะเปลี่ยนแปลค่าหรือค่าเหมือนเดิมก็ตาม,
+		 *         หากไม่สามารถปรับปรุงข้อมูลได้ จะ return -1)
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @see #jpql(Function, CharSequence, Object...)
+		 * @see Query#executeUpdate()
+		 */
+		protected <E> int put(Model<E> model,
+				CharSequence values,
+				CharSequence criteria,
+				Object... params) throws NullPointerException {
+			Compiled compiled;
+			try {
+				compiled = compile(model, "UPDATE", values, criteria, params);
+			} catch (Throwable e) {
+				model.caught(e);
+				return -1;
+			}
+			try {
+				return trace(model, "put", compiled,
+						() -> jpql(query -> query.executeUpdate(),
+								compiled.statement, compiled.params),
+						Integer::intValue, -1);
+			} finally {
+				invalidate(model.clazz);
+			}
+		}
+
+		/**
+		 * ปรับปรุงข้อมูลในฐานข้อมูลด้วยคำสั่งปรับปรุงข้อมูลหลายคำสั่ง
+		 * ตามลำดับ ภายใน {@link EntityTransaction} เดียว
+		 * โดยคำสั่งที่มีคำสั่ง JPQL เดียวกันจะใช้ {@link Query} ร่วมกัน
+		 * (ผูกเพียงค่า Parameter ใหม่)
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param statements
+		 *            คำสั่ง "UPDATE" และ Parameter ของแต่ละคำสั่ง
+		 * @return จำนวนข้อมูลที่ถูกปรับปรุงของแต่ละคำสั่งตามลำดับ
+		 *         (หากไม่สามารถปรับปรุงข้อมูลได้ จะยกเลิกทั้งหมดและ return
+		 *         null)
+		 * @throws NullPointerException
+		 *             <code>model</code> หรือ <code>statements</code> เป็น
+		 *             null
+		 * @see Model.Updates
+		 * @see Query#executeUpdate()
+		 */
+		protected <E> int[] updates(Model<E> model, List<Compiled> statements)
+				throws NullPointerException {
+			if (statements.isEmpty()) return new int[0];
+			try {
+				return trace(model, "updates", null, () -> transaction(
+						manager -> {
+					HashMap<String, Query> queries = new HashMap<>();
+					int[] counts = new int[statements.size()];
+					try {
+						for (int i = 0; i < counts.length; i++) {
+							Compiled compiled = statements.get(i);
+							Query query = queries.get(compiled.statement);
+							if (query == null) {
+								queries.put(compiled.statement, query = query(
+										manager, compiled.statement));
+							}
+							counts[i] = inject(query, compiled.params)
+									.executeUpdate();
+						}
+					} catch (RuntimeException | Error e) {
+						manager.getTransaction().setRollbackOnly();
+						throw e;
+					}
+					return counts;
+				}), counts -> {
+					if (counts == null) return 0;
+					int rows = 0;
+					for (int count : counts) {
+						rows += count;
+					}
+					return rows;
+				}, null);
+			} finally {
+				invalidate(model.clazz);
+			}
+		}
+
+		/**
+		 * ลบข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param id
+		 *            ข้อมูลที่ต้องการลบ (Entity Object หรือ ID ก็ได้)
+		 * @return true หากสามารถลบข้อมูลในฐานได้สำเร็จ
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @see #id(Class, Object)
+		 * @see #transaction(Function)
+		 * @see EntityManager#getReference(Class, Object)
+		 * @see EntityManager#remove(Object)
+		 */
+		protected <E> boolean del(Model<E> model, Iterable<Object> id)
+				throws NullPointerException {
+			try {
+				return trace(model, "del", null, () -> transaction(manager -> {
+					for (Object i : id) {
+						manager.remove(manager.getReference(
+								model.clazz, id(model.clazz, i)));
+					}
+					return true;
+				}), result -> rows(id), false);
+			} finally {
+				invalidate(model.clazz);
+			}
+		}
+
+		/**
+		 * ลบข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param criteria
+		 *            เงื่อนใขในการระบุข้อมูลที่ต้องการลบ
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return จำนวนข้อมูลที่ถูกลบ <br />
+		 *         (หากไม่สามารถลบข้อมูลได้ จะ return -1)
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @see #jpql(Function, CharSequence, Object...)
+		 * @see Query#executeUpdate()
+		 */
+		protected <E> int del(
+				Model<E> model, CharSequence criteria, Object... params)
+				throws NullPointerException {
+			Compiled compiled;
+			try {
+				compiled = compile(model, "DELETE", null, criteria, params);
+			} catch (Throwable e) {
+				model.caught(e);
+				return -1;
+			}
+			try {
+				return trace(model, "del", compiled,
+						() -> jpql(query -> query.executeUpdate(),
+								compiled.statement, compiled.params),
+						Integer::intValue, -1);
+			} finally {
+				invalidate(model.clazz);
+			}
+		}
+
+		/**
+		 * ลบข้อมูลจำนวนมากในฐานข้อมูล ณ ID ที่ระบุ ด้วยคำสั่ง
+		 * "DELETE ... WHERE e.id IN ?1" ทีละกลุ่ม ({@link #chunks(Collection)})
+		 * แทนการลบผ่าน {@link EntityManager#remove(Object)} ทีละตัว
+		 * และล้าง {@link Cache} ของข้อมูลที่ถูกลบทุกครั้งที่จบกลุ่ม
+		 * <br />
+		 * (ไม่ผ่าน Lifecycle Callback และ Cascade ของ {@link Entity}
+		 * หากต้องการให้ใช้ {@link #del(Model, Iterable)} แทน
+		 * และหากกลุ่มใดลบไม่สำเร็จ จะหยุดการทำงาน
+		 * โดยกลุ่มก่อนหน้าที่สำเร็จแล้วจะยังคงถูกลบไปแล้ว)
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param id
+		 *            ข้อมูลที่ต้องการลบ (Entity Object หรือ ID ก็ได้)
+		 * @return จำนวนข้อมูลที่ถูกลบ <br />
+		 *         (หากไม่สามารถลบข้อมูลได้ จะ return -1)
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @see #del(Model, CharSequence, Object...)
+		 * @see #clear(Model, Object...)
+		 */
+		protected <E> int dels(Model<E> model, Iterable<Object> id)
+				throws NullPointerException {
+			LinkedHashSet<Object> ids = new LinkedHashSet<>();
+			try {
+				for (Object i : id) {
+					ids.add(id(model.clazz, i));
+				}
+			} catch (Throwable e) {
+				model.caught(e);
+				return -1;
+			}
+			String criteria = model.as + "." + pk(model.clazz).getName()
+					+ " IN ?1";
+			int count = 0;
+			for (List<Object> chunk : chunks(ids)) {
+				int deleted = del(model, criteria, new Object[] { chunk });
+				if (deleted < 0) return -1;
+				count += deleted;
+				clear(model, chunk.toArray());
+			}
+			return count;
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param id
+		 *            ID ของข้อมูลที่ต้องการ
+		 * @return ข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             <code>id</code> ไม่ใช่ Object ของ Primary Key ของ
+		 *             <code>model</code>
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #id(Class, Object)
+		 * @see #manager(Function)
+		 * @see EntityManager#find(Class, Object)
+		 */
+		protected <E> E find(Model<E> model, Object id)
+				throws NullPointerException,
+				IllegalArgumentException,
+				UnsupportedOperationException {
+			if (id == null) return null;
+			return trace(model, "find", null, () -> manager(manager -> {
+				try {
+					return manager.find(model.clazz, id(model.clazz, id));
+				} catch (Throwable e) {
+					model.caught(e);
+					return null;
+				}
+			}), result -> result == null ? 0 : 1);
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+		 *             ไม่ถูกต้อง
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #jpql(Function, Class, CharSequence, Object...)
+		 * @see #build(Model, StringBuilder, Object...)
+		 * @see TypedQuery#getSingleResult()
+		 */
+		protected <E> E find(
+				Model<E> model, CharSequence criteria, Object... params)
+				throws NullPointerException,
+				IllegalArgumentException,
+				UnsupportedOperationException {
+			Compiled compiled = compile(model, "SELECT", null, criteria, params);
+			return trace(model, "find", compiled,
+					() -> cached(model, "find", compiled, () -> jpql(query -> {
+				try {
+					return query.getSingleResult();
+				} catch (NoResultException e) {
+					return null;
+				} catch (Throwable e) {
+					model.caught(e);
+					return null;
+				}
+			}, model.clazz, compiled.statement, compiled.params)),
+					result -> result == null ? 0 : 1);
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูลโดยระบุข้อมูลที่ต้องการตามเงื่อนไขที่ระบุ
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param selector
+		 *            ตัวระบุข้อมูลที่ต้องการ
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+		 *             ไม่ถูกต้อง
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #jpql(Function, Class, CharSequence, Object...)
+		 * @see #build(Model, StringBuilder, Object...)
+		 * @see TypedQuery#getResultList()
+		 */
+		protected <S, R> R find(Model<?> model,
+				Selector<S, R> selector,
+				CharSequence criteria,
+				Object... params)
+				throws NullPointerException,
+				IllegalArgumentException,
+				UnsupportedOperationException {
+			Compiled compiled = compile(model,
+					"SELECT", selector.selector(model), criteria, params);
+			return trace(model, "find", compiled, () -> cached(
+					model, tag(selector), compiled, () -> jpql(query -> {
+				try {
+					return selector.result(query.getSingleResult());
+				} catch (Throwable e) {
+					model.caught(e);
+					return null;
+				}
+			}, selector.clazz(), compiled.statement, compiled.params)),
+					result -> result == null ? 0 : 1);
+		}
+
+		/**
+		 * กำหนด {@link Monitor} สำหรับรับการแจ้งเตือนการทำงานของคำสั่ง
+		 *
+		 * @param monitor
+		 *            {@link #monitor} (null : ไม่แจ้งเตือน)
+		 * @return Object ตัวเอง
+		 */
+		public Factory monitor(Monitor monitor) {
+			this.monitor = monitor;
+			return this;
+		}
+
+		/**
+		 * @return {@link #monitor}
+		 */
+		public Monitor monitor() {
+			return monitor;
+		}
+
+		/**
+		 * นับจำนวน Parameter ที่ผูกกับคำสั่ง JPQL (Parameter แบบตั้งชื่อ
+		 * นับตามจำนวนค่าใน {@link Map} และไม่นับ {@link Injector})
+		 *
+		 * @param params
+		 *            Parameter ของคำสั่ง
+		 * @return จำนวน Parameter
+		 */
+		private static int count(Object[] params) {
+			int count = 0;
+			for (Object param : params == null ? new Object[0] : params) {
+				if (param instanceof Map) {
+					count += ((Map<?, ?>) param).size();
+				} else if (!(param instanceof Injector)) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		/**
+		 * ประมวลผลคำสั่งพร้อมแจ้ง {@link #monitor} เมื่อเริ่มและจบการทำงาน
+		 * (หากไม่ได้กำหนด {@link #monitor} จะประมวลผลคำสั่งทันที)
+		 *
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param operation
+		 *            ชื่อคำสั่ง
+		 * @param compiled
+		 *            คำสั่ง JPQL และ Parameter (null หากไม่มี)
+		 * @param action
+		 *            Functional Interface ของคำสั่ง
+		 * @param rows
+		 *            Functional Interface สำหรับนับจำนวนข้อมูลจากผลลัพธ์
+		 * @return ผลลัพธ์ของ <code>action</code>
+		 * @see Monitor
+		 */
+		protected <R> R trace(Model<?> model,
+				String operation,
+				Compiled compiled,
+				Supplier<R> action,
+				ToIntFunction<R> rows) {
+			Monitor monitor = this.monitor;
+			if (monitor == null) return action.get();
+			Trace trace = new Trace(model.clazz, operation,
+					compiled == null ? null : compiled.statement,
+					compiled == null ? 0 : count(compiled.params));
+			Trace outer = tracing.get();
+			tracing.set(trace);
+			monitor.start(trace);
+			long start = System.nanoTime();
+			try {
+				R result = action.get();
+				trace.rows = rows.applyAsInt(result);
+				return result;
+			} catch (RuntimeException | Error e) {
+				trace.thrown = e;
+				throw e;
+			} finally {
+				trace.nanos = System.nanoTime() - start;
+				if (outer == null) {
+					tracing.remove();
+				} else {
+					tracing.set(outer);
+				}
+				if (trace.thrown == null) {
+					monitor.end(trace);
+				} else {
+					monitor.error(trace);
 				}
-				return function.apply(factory);
 			}
 		}
 
 		/**
-		 * Class ของ {@link Model} ที่จะใช้ในการสร้าง {@link Model} Object
+		 * ประมวลผลคำสั่งพร้อมแจ้ง {@link #monitor} เมื่อเริ่มและจบการทำงาน
+		 * หากเกิดข้อผิดพลาดจะส่งไปยัง {@link Model#caught(Throwable)}
+		 * และ return <code>failed</code> แทนการ throw
 		 *
-		 * @see #create(Class, String)
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param operation
+		 *            ชื่อคำสั่ง
+		 * @param compiled
+		 *            คำสั่ง JPQL และ Parameter (null หากไม่มี)
+		 * @param action
+		 *            Functional Interface ของคำสั่ง
+		 * @param rows
+		 *            Functional Interface สำหรับนับจำนวนข้อมูลจากผลลัพธ์
+		 * @param failed
+		 *            ผลลัพธ์เมื่อเกิดข้อผิดพลาด
+		 * @return ผลลัพธ์ของ <code>action</code> หรือ <code>failed</code>
+		 * @see #trace(Model, String, Compiled, Supplier, ToIntFunction)
 		 */
-		private final Class<? extends Model<?>>[] register;
+		protected <R> R trace(Model<?> model,
+				String operation,
+				Compiled compiled,
+				Supplier<R> action,
+				ToIntFunction<R> rows,
+				R failed) {
+			return trace(model, operation, compiled, () -> {
+				try {
+					return action.get();
+				} catch (Throwable e) {
+					model.caught(e);
+					return failed;
+				}
+			}, rows);
+		}
 
 		/**
-		 * Constructor สำหรับสร้าง {@link Factory} Object
+		 * รับข้อผิดพลาดที่ส่งไปยัง {@link Model#listener} เพื่อแจ้ง
+		 * {@link #monitor} (ผ่านคำสั่งที่กำลังทำงานอยู่ หรือเป็นคำสั่ง
+		 * "caught" หากไม่มี)
 		 *
-		 * @param register
-		 *            {@link #register}
+		 * @param model
+		 *            {@link Model} ที่เกิดข้อผิดพลาด
+		 * @param thrown
+		 *            ข้อผิดพลาดที่เกิดขึ้น
 		 */
-		@SafeVarargs
-		public Factory(Class<? extends Model<?>>... register) {
-			this.register = register;
+		protected void caught(Model<?> model, Throwable thrown) {
+			Monitor monitor = this.monitor;
+			if (monitor == null) return;
+			Trace trace = tracing.get();
+			if (trace != null) {
+				if (trace.thrown == null) {
+					trace.thrown = thrown;
+				}
+			} else {
+				trace = new Trace(model.clazz, "caught", null, 0);
+				trace.thrown = thrown;
+				monitor.error(trace);
+			}
 		}
 
 		/**
-		 * สร้าง Instance ของ {@link Model} จาก {@link Class} ที่ระบุ
+		 * นับจำนวนข้อมูลใน {@link Iterable} (หากเป็น {@link Collection})
 		 *
-		 * @param clazz
-		 *            {@link Class} ที่ต้องการสร้าง Instance
-		 * @param alias
-		 *            ชื่อ Alias Name ใน Model
-		 * @return Instance ของ {@link Model}
-		 * @throws NullPointerException
-		 *             <code>clazz</code> เป็น null
-		 * @throws InvocationTargetException
-		 *             เกิด {@link Throwable} ขึ้นในการสร้าง Instance
-		 * @throws NoSuchMethodException
-		 *             ไม่มี {@link Constructor} สำหรับสร้าง Instance
+		 * @param entities
+		 *            ข้อมูล
+		 * @return จำนวนข้อมูล หรือ -1 หากไม่ทราบ
 		 */
-		protected Model<?> found(Class<? extends Model<?>> clazz, String alias)
-				throws NullPointerException,
-				InvocationTargetException,
-				NoSuchMethodException {
-			return new Invocable<>(clazz).found(c -> true, (i, p) -> {
-				Class<?> type = p.getType();
-				if (type == Class.class)
-					return clazz;
-				else if (type == Factory.class)
-					return Factory.this;
-				else if (type == EntityManagerFactory.class)
-					return factory(f -> f);
-				else if (type == String.class)
-					return alias;
-				else return null;
-			});
+		private static int rows(Iterable<?> entities) {
+			return entities instanceof Collection
+					? ((Collection<?>) entities).size() : -1;
 		}
 
 		/**
-		 * เรียก {@link Field} Primary Key จาก {@link Entity} Class
-		 * ที่ต้องการได้
+		 * ค้นหาข้อมูลผ่าน {@link #results} (หากเปิดใช้งาน)
+		 * ผลลัพธ์ที่เป็น {@link List} จะถูกคัดลอกก่อนส่งกลับทุกครั้ง
+		 * (คำสั่งที่มี {@link Injector} และคำสั่งภายใน
+		 * {@link #scope(boolean, Supplier)} จะไม่ใช้ {@link #results})
 		 *
-		 * @param clazz
-		 *            {@link Entity} Class ที่ต้องการ Primary Key
-		 * @return {@link Field} Primary Key ของ {@link Entity} Class ที่ต้องการ
-		 * @throws NullPointerException
-		 *             <code>clazz</code> เป็น null
-		 * @throws IllegalArgumentException
-		 *             ไม่มี Primary Key ใน <code>clazz</code> ที่ระบุ
-		 * @see Id
-		 * @see EmbeddedId
-		 * @see Class#getDeclaredFields()
+		 * @param model
+		 *            {@link Model} ของข้อมูล
+		 * @param tag
+		 *            ตัวระบุรูปแบบผลลัพธ์ (เช่น Class หรือรูปแบบโครงสร้างของ
+		 *            {@link Selector})
+		 * @param compiled
+		 *            คำสั่ง JPQL และ Parameter
+		 * @param query
+		 *            Functional Interface สำหรับค้นหาจากฐานข้อมูล
+		 * @return ผลลัพธ์จากการค้นหา
+		 * @see ResultCache
 		 */
-		protected <E> Field pk(Class<E> clazz)
-				throws NullPointerException, IllegalArgumentException {
-			for (Class<?> c = clazz; c != Object.class; c = c.getSuperclass()) {
-				for (Field field : c.getDeclaredFields()) {
-					if (field.getAnnotation(Id.class) != null
-							|| field.getAnnotation(EmbeddedId.class) != null)
-						return field;
+		protected <R> R cached(Model<?> model,
+				Object tag,
+				Compiled compiled,
+				Supplier<R> query) {
+			if (results.limit() <= 0 || scope.get() != null)
+				return query.get();
+			for (Object param : compiled.params) {
+				if (param instanceof Injector) return query.get();
+			}
+			ResultCache.Key key = new ResultCache.Key(model.clazz,
+					tag, compiled.statement, compiled.params);
+			long generation = results.generation(model.clazz);
+			Object result = results.get(key);
+			if (result == null) {
+				R found = query.get();
+				if (found != null) {
+					results.put(key, found instanceof List
+							? new ArrayList<>((List<?>) found) : found,
+							generation);
 				}
+				return found;
+			} else if (result instanceof List) {
+				result = new ArrayList<>((List<?>) result);
 			}
-			String msg = clazz.getName()
-					+ " is not @Id (or @EmbeddedId) present.";
-			throw new IllegalArgumentException(msg);
+			return Cast.$(result);
 		}
 
 		/**
-		 * เรียกค่า ID จาก {@link Entity} Object
+		 * ล้างผลลัพธ์ของ {@link Entity} Class ที่ระบุใน {@link #results}
+		 * หลังจากข้อมูลถูก Commit แล้ว (หากอยู่ใน {@link EntityTransaction}
+		 * ของ {@link #scope(boolean, Supplier)} จะล้างเมื่อจบ Scope)
 		 *
 		 * @param clazz
-		 *            {@link Entity} Class ที่ต้องการเรียกค่า ID
-		 * @param entity
-		 *            {@link Entity} Object ที่ต้องการเรียกค่า ID
-		 * @return ID ของ {@link Entity} Object
-		 * @throws NullPointerException
-		 *             <code>clazz</code> เป็น null
-		 * @throws IllegalArgumentException
-		 *             <code>entity</code> ไม่ใช่ Object ของ <code>clazz</code>
-		 *             หรือ ไม่ใช่ Object ของ PK ของ <code>clazz</code>
+		 *            {@link Entity} Class ที่ข้อมูลมีการเปลี่ยนแปลง
+		 * @see ResultCache#invalidate(Class)
 		 */
-		protected <E> Object id(Class<E> clazz, Object entity)
-				throws NullPointerException, IllegalArgumentException {
-			Field pk = pk(clazz);
-			if (clazz.isInstance(entity)) {
-				try {
-					return Invocable.override(pk).get(entity);
-				} catch (Throwable e) {
-					throw new IllegalArgumentException(e);
+		protected void invalidate(Class<?> clazz) {
+			EntityManager scoped = scope.get();
+			if (scoped != null && scoped.getTransaction().isActive()) {
+				Set<Class<?>> classes = invalidated.get();
+				if (classes == null) {
+					invalidated.set(classes = new HashSet<>());
 				}
-			} else if (pk.getType().isInstance(entity)) return entity;
-			try (Formatter f = new Formatter()) {
-				f.format("%s is not instance of %s or %s.%s (%s).",
-						entity, clazz.getName(), clazz.getSimpleName(),
-						pk.getName(), pk.getType().getName());
-				throw new IllegalArgumentException(f.toString());
+				classes.add(clazz);
+			} else {
+				results.invalidate(clazz);
 			}
 		}
 
 		/**
-		 * ตรวจสอบว่าใน Keyword สำหรับการอ้าง Field ใน Entity Class มีตัวแปร
-		 * Alias Name อยู่แล้วหรือไม่
+		 * ระบุรูปแบบผลลัพธ์ของ {@link Selector} สำหรับใช้ใน
+		 * {@link #cached(Model, Object, Compiled, Supplier)}
 		 *
-		 * @param model
-		 *            {@link Model} ของ Entity Class
-		 * @param keyword
-		 *            Keyword ที่ต้องการตรวจสอบ
-		 * @return true หากใน <code>keyword</code> มี Alias Name อยู่แล้ว
+		 * @param selector
+		 *            ตัวระบุข้อมูล
+		 * @return รูปแบบโครงสร้างของ <code>selector</code> หากเป็น
+		 *         {@link Statement} หรือ Class ของ <code>selector</code>
 		 */
-		protected boolean hasAlias(Model<?> model, String keyword) {
-			try {
-				StringBuilder builder = new StringBuilder()
-						.append("^ *").append(model.as).append(" *$")
-						.append("|^ *").append(model.as).append("\\.")
-						.append("|\\W").append(model.as).append("\\.")
-						.append("|\\( *").append(model.as).append(" *\\)");
-				return Pattern.compile(builder.toString())
-						.matcher(keyword).find();
-			} catch (Throwable e) {
-				return false;
+		private static Object tag(Selector<?, ?> selector) {
+			if (selector instanceof Statement) {
+				StringBuilder key = new StringBuilder();
+				if (((Statement) selector).shape(key)) return key.toString();
 			}
+			return selector.getClass();
 		}
 
 		/**
-		 * สร้างคำสั่ง JPQL และ Parameter ที่จะนำไปสร้างเป็น {@link Query}
+		 * ค้นหาข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
+		 * <p>
+		 * ID จะถูกแบ่งเป็นกลุ่มละไม่เกิน {@link #chunk()} ตัว
+		 * (เพื่อไม่ให้เกินจำนวน Bind Parameter สูงสุดของฐานข้อมูล)
+		 * และแต่ละกลุ่มจะถูกขยายเป็นขนาดมาตรฐานด้วย ID ตัวสุดท้ายของกลุ่ม
+		 * ({@link #bucket(int, int)}) หาก {@link #parallel()}
+		 * และไม่ได้อยู่ใน {@link #scope(boolean, Supplier)} แต่ละกลุ่มจะถูก
+		 * ค้นหาพร้อมกันผ่าน {@link #async(Supplier)} ผลลัพธ์จะเรียงตามลำดับของ
+		 * <code>id</code> ที่ระบุ (ID ที่ซ้ำหรือไม่พบจะถูกข้ามไป)
 		 *
 		 * @param model
-		 *            {@link Model} ที่ต้องสร้างคำสั่ง JPQL
-		 * @param statement
-		 *            {@link StringBuilder} สำหรับใช้ในการสร้างคำสั่ง JPQL
-		 * @param params
-		 *            Parameter
-		 * @return Parameter ใน <code>statement</code>
+		 *            {@link Model} ของข้อมูล
+		 * @param id
+		 *            ID ของข้อมูลที่ต้องการ
+		 * @return ข้อมูลในฐานข้อมูล ณ ID ที่ระบุ หรือ null
+		 *         หากเกิดข้อผิดพลาดในการค้นหา
 		 * @throws NullPointerException
-		 *             <code>model</code> หรือ <code>statement</code> เป็น null
+		 *             <code>model</code> เป็น null
 		 * @throws IllegalArgumentException
-		 *             ไม่สามารถสร้างคำสั่งตาม <code>model</code>,
-		 *             <code>statement</code> และ <code>params</code>
-		 *             ที่กำหนดได้
-		 * @see Model.Factory.Statement#build(Model, StringBuilder, List)
+		 *             <code>id</code> ไม่ใช่ Object ของ Primary Key ของ
+		 *             <code>model</code>
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #id(Class, Object)
+		 * @see #finds(Model, CharSequence, Object...)
 		 */
-		protected Object[] build(
-				Model<?> model, StringBuilder statement, Object... params)
-				throws NullPointerException, IllegalArgumentException {
-			if (params == null || params.length == 0) return params;
-			else if (params[0] instanceof Map) {
-				ArrayList<Object> list = new ArrayList<>();
-				Map<String, Object> map = Cast.$(params[0]);
-				for (Object param : params) {
-					if (param instanceof Statement) {
-						((Statement) param).build(model, statement, map);
-					} else {
-						list.add(param);
-					}
+		protected <E> List<E> finds(Model<E> model, Object... id)
+				throws NullPointerException,
+				IllegalArgumentException,
+				UnsupportedOperationException {
+			if (id == null || id.length == 0)
+				return finds(model, (CharSequence) null);
+			LinkedHashSet<Object> ids = new LinkedHashSet<>();
+			for (Object key : id) {
+				ids.add(id(model.clazz, key));
+			}
+			List<List<Object>> chunks = chunks(ids);
+			String criteria = model.as + "." + pk(model.clazz).getName()
+					+ " IN ?1";
+			Function<List<Object>, List<E>> find = list -> finds(model,
+					criteria, new Object[] { list });
+			List<List<E>> results = new ArrayList<>(chunks.size());
+			if (parallel && chunks.size() > 1 && scope.get() == null) {
+				List<CompletableFuture<List<E>>> futures =
+						new ArrayList<>(chunks.size());
+				for (List<Object> list : chunks) {
+					futures.add(async(() -> find.apply(list)));
 				}
-				return list.toArray();
-			} else {
-				ArrayList<Object> list = new ArrayList<>();
-				for (Object param : params) {
-					if (param instanceof Statement) {
-						((Statement) param).build(model, statement, list);
-					} else {
-						list.add(param);
+				try {
+					for (CompletableFuture<List<E>> future : futures) {
+						results.add(future.join());
 					}
+				} catch (CompletionException e) {
+					model.caught(e.getCause() == null ? e : e.getCause());
+					return null;
 				}
-				return list.toArray();
-			}
-		}
-
-		/**
-		 * ผูกค่า Parameter เข้ากับ {@link Query}
-		 * ที่จะใช้ในการเข้าถึงหรือปฏิบัติต่อฐานข้อมูล
-		 *
-		 * @param query
-		 *            {@link Query} ในการเข้าถึงหรือปฏิบัติต่อฐานข้อมูล
-		 * @param params
-		 *            Parameter ที่ต้องการผูกกับ {@link Query}
-		 * @return <code>query</code>
-		 * @throws NullPointerException
-		 *             <code>query</code> เป็น null
-		 * @throws IllegalArgumentException
-		 *             การผูก <code>params</code> เข้ากับ <code>query</code>
-		 *             ไม่ถูกต้อง
-		 * @see Injector
-		 * @see Query#setParameter(int, Object)
-		 * @see Query#setParameter(String, Object)
-		 */
-		protected <Q extends Query> Q inject(Q query, Object... params)
-				throws NullPointerException, IllegalArgumentException {
-			if (params == null || params.length == 0) {
-				for (Parameter<?> parameter : query.getParameters()) {
-					if (!query.isBound(parameter))
-						throw new IllegalArgumentException(
-								parameter + " was not bound.");
-				}
-				return query;
-			}
-			ArrayList<Object> list = new ArrayList<>();
-			for (Object param : params) {
-				if (param instanceof Injector) {
-					((Injector) param).inject(query);
-				} else {
-					list.add(param);
+			} else {
+				for (List<Object> list : chunks) {
+					results.add(find.apply(list));
 				}
 			}
-			if (list.size() > 1) {
-				int i = 1;
-				for (Object param : list) {
-					if (param instanceof Injector) {
-						((Injector) param).inject(query);
-					} else {
-						query.setParameter(i++, param);
+			HashMap<Object, E> found = new HashMap<>();
+			Primary primary = primary(model.clazz);
+			for (List<E> result : results) {
+				if (result == null) return null;
+				for (E entity : result) {
+					try {
+						found.put(primary.get(entity), entity);
+					} catch (Throwable e) {
+						model.caught(e);
+						return null;
 					}
 				}
-			} else if (list.size() == 1) {
-				Object param = list.get(0);
-				if (param == null) {
-					query.setParameter(1, null);
-				} else if (param instanceof Map) {
-					for (Map.Entry<?, ?> entry : ((Map<?, ?>) param)
-							.entrySet()) {
-						Object value = entry.getValue();
-						if (value instanceof Injector) {
-							((Injector) value).inject(query);
-						} else {
-							try {
-								String key = entry.getKey().toString();
-								query.setParameter(key, value);
-							} catch (java.lang.NullPointerException e) {}
-						}
-					}
-				} else if ((param instanceof Iterable
-						|| param instanceof Iterator
-						|| param.getClass().isArray())
-						&& query.getParameters().size() > 1)
-					return inject(query, Cast.$(Object[].class, param));
-				else {
-					query.setParameter(1, param);
+			}
+			ArrayList<E> list = new ArrayList<>(found.size());
+			for (Object key : ids) {
+				E entity = found.get(key);
+				if (entity != null) {
+					list.add(entity);
 				}
 			}
-			return inject(query);
+			return list;
 		}
 
 		/**
-		 * เพิ่มข้อมูลลงฐานข้อมูล
+		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
 		 *
 		 * @param model
 		 *            {@link Model} ของข้อมูล
-		 * @param entities
-		 *            ข้อมูลที่ต้องการเพิ่มลงฐาน
-		 * @return true หากเพิ่มข้อมูลในฐานได้สำเร็จ
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
 		 * @throws NullPointerException
 		 *             <code>model</code> เป็น null
-		 * @see #transaction(Function)
-		 * @see EntityManager#persist(Object)
+		 * @throws IllegalArgumentException
+		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+		 *             ไม่ถูกต้อง
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #jpql(Function, Class, CharSequence, Object...)
+		 * @see #build(Model, StringBuilder, Object...)
+		 * @see TypedQuery#getResultList()
 		 */
-		protected <E> boolean add(Model<E> model, Iterable<E> entities)
-				throws NullPointerException {
-			try {
-				return transaction(manager -> {
-					for (E entity : entities) {
-						manager.persist(entity);
-					}
-					return true;
-				});
-			} catch (Throwable e) {
-				model.caught(e);
-				return false;
-			}
+		protected <E> List<E> finds(
+				Model<E> model, CharSequence criteria, Object... params)
+				throws NullPointerException,
+				IllegalArgumentException,
+				UnsupportedOperationException {
+			Compiled compiled = compile(model, "SELECT", null, criteria, params);
+			return trace(model, "finds", compiled,
+					() -> cached(model, "finds", compiled, () -> jpql(query -> {
+				try {
+					return query.getResultList();
+				} catch (Throwable e) {
+					model.caught(e);
+					return null;
+				}
+			}, model.clazz, compiled.statement, compiled.params)),
+					result -> result == null ? 0 : result.size());
 		}
 
 		/**
-		 * ปรับปรุงข้อมูลในฐานข้อมูล
+		 * ค้นหาข้อมูลในฐานข้อมูลโดยระบุข้อมูลที่ต้องการตามเงื่อนไขที่ระบุ
 		 *
 		 * @param model
 		 *            {@link Model} ของข้อมูล
-		 * @param entities
-		 *            ข้อมูลที่ต้องการให้ปรับปรุงในฐาน
-		 * @return true หากปรับปรุงข้อมูลในฐานได้สำเร็จ
+		 * @param selector
+		 *            ตัวระบุข้อมูลจากการค้นหา
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
 		 * @throws NullPointerException
 		 *             <code>model</code> เป็น null
-		 * @see #transaction(Function)
-		 * @see EntityManager#merge(Object)
+		 * @throws IllegalArgumentException
+		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+		 *             ไม่ถูกต้อง
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #jpql(Function, Class, CharSequence, Object...)
+		 * @see #build(Model, StringBuilder, Object...)
+		 * @see TypedQuery#getResultList()
 		 */
-		protected <E> boolean put(Model<E> model, Iterable<E> entities)
-				throws NullPointerException {
-			ArrayList<E[]> merged = new ArrayList<>();
-			try {
-				return transaction(manager -> {
-					for (E entity : entities) {
-						merged.add(Cast.array(entity, manager.merge(entity)));
-					}
-					return true;
-				});
-			} catch (Throwable e) {
-				model.caught(e);
-				return false;
-			} finally {
-				for (E[] entry : merged) {
-					Cast.clone(entry[0], entry[1]);
+		protected <S, R> List<R> finds(Model<?> model,
+				Selector<S, R> selector,
+				CharSequence criteria,
+				Object... params)
+				throws NullPointerException,
+				IllegalArgumentException,
+				UnsupportedOperationException {
+			if (selector instanceof Statement) {
+				if (params == null || params.length == 0) {
+					params = new Object[] { selector };
+				} else {
+					params = Cast.$.array(params, params.length + 1);
+					params[params.length - 1] = selector;
 				}
 			}
+			Compiled compiled = compile(model,
+					"SELECT", selector.selector(model), criteria, params);
+			return trace(model, "finds", compiled, () -> cached(
+					model, tag(selector), compiled, () -> jpql(query -> {
+				try {
+					List<S> rows = query.getResultList();
+					List<R> list = new ArrayList<>(rows.size());
+					for (S result : rows) {
+						list.add(selector.result(result));
+					}
+					return list;
+				} catch (Throwable e) {
+					model.caught(e);
+					return null;
+				}
+			}, selector.clazz(), compiled.statement, compiled.params)),
+					result -> result == null ? 0 : result.size());
 		}
 
 		/**
-		 * ปรับปรุงข้อมูลในฐานข้อมูลโดยการกำหนดค่าและระบุเงื่อนไขของข้อมูลที่ต้องการ
+		 * อ่านข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุเป็น {@link Stream}
+		 * โดยไม่โหลดผลลัพธ์ทั้งหมดไว้ใน Memory
+		 * <p>
+		 * ใน EclipseLink จะอ่านผ่าน Scrollable Cursor แบบ Forward Only
+		 * ส่วน Provider อื่นจะอ่านทีละหน้าด้วย
+		 * {@link Query#setFirstResult(int)} และ
+		 * {@link Query#setMaxResults(int)} ทุกๆ <code>size</code> รายการ
+		 * จะล้าง {@link EntityManager} เพื่อไม่ให้ Persistence Context
+		 * สะสมข้อมูลที่อ่านไปแล้ว (ข้อมูลที่ได้จึงเป็น Detached)
+		 * <p>
+		 * {@link Stream} ที่ได้ถือ {@link EntityManager} ไว้ตลอดการอ่าน
+		 * จึงต้องปิดด้วย {@link Stream#close()} (หรือ try-with-resources)
+		 * ทุกครั้ง
 		 *
 		 * @param model
 		 *            {@link Model} ของข้อมูล
-		 * @param values
-		 *            ค่าที่ต้องกำหนดให้กับข้อมูลที่จะปรับปรุง
+		 * @param size
+		 *            จำนวนข้อมูลที่อ่านจากฐานข้อมูลในแต่ละครั้ง (Fetch Size)
 		 * @param criteria
-		 *            เงื่อนใขในการระบุข้อมูลที่ต้องการปรับปรุง
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
 		 * @param params
-		 *            Parameter ใน <code>values</code> และ <code>criteria</code>
-		 *            (รวมกันโดยที่ Parameter ใน <code>value</code> ขึ้นก่อน
-		 *            และตามด้วย <code>criteria</code> ต่อเลย)
-		 * @return จำนวนข้อมูลที่ถูกแก้ใขให้มีผลตาม<code>value</code>ที่ระบุ
-		 *         <br />
-		 *         (ไม่ว่าจะเปลี่ยนแปลค่าหรือค่าเหมือนเดิมก็ตาม,
-		 *         หากไม่สามารถปรับปรุงข้อมูลได้ จะ return -1)
+		 *            Parameter ใน <code>criteria</code>
+		 * @return {@link Stream} ของข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *         หรือ {@link Stream#empty()} หากเกิดข้อผิดพลาดในการค้นหา
 		 * @throws NullPointerException
 		 *             <code>model</code> เป็น null
-		 * @see #jpql(Function, CharSequence, Object...)
-		 * @see Query#executeUpdate()
+		 * @throws IllegalArgumentException
+		 *             <code>size</code> น้อยกว่า 1 หรือคำสั่ง
+		 *             <code>criteria</code> หรือ <code>params</code>
+		 *             ไม่ถูกต้อง
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #compile(Model, String, CharSequence, CharSequence, Object...)
+		 * @see #finds(Model, CharSequence, Object...)
 		 */
-		protected <E> int put(Model<E> model,
-				CharSequence values,
+		protected <E> Stream<E> stream(Model<E> model,
+				int size,
 				CharSequence criteria,
-				Object... params) throws NullPointerException {
+				Object... params)
+				throws NullPointerException,
+				IllegalArgumentException,
+				UnsupportedOperationException {
+			if (size < 1)
+				throw new IllegalArgumentException(
+						"Fetch size must be greater than 0.");
+			Compiled compiled = compile(model, "SELECT", null, criteria, params);
 			try {
-				StringBuilder statement = new StringBuilder("UPDATE ")
-						.append(model.clazz.getSimpleName()).append(model.as)
-						.append(" SET ").append(values);
-				if (criteria != null && criteria.length() > 0) {
-					statement.append(" WHERE ").append(criteria);
-				}
-				return jpql(query -> query.executeUpdate(), statement,
-						build(model, statement, params));
+				return cursor(model, size, compiled);
 			} catch (Throwable e) {
 				model.caught(e);
-				return -1;
+				return Stream.empty();
 			}
 		}
 
 		/**
-		 * ลบข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
+		 * เปิด {@link Stream} ของคำสั่งที่สร้างแล้ว บน {@link EntityManager}
+		 * ตัวใหม่ (ไม่ใช้ {@link EntityManager} ของ
+		 * {@link #scope(boolean, Supplier)})
 		 *
 		 * @param model
 		 *            {@link Model} ของข้อมูล
-		 * @param id
-		 *            ข้อมูลที่ต้องการลบ (Entity Object หรือ ID ก็ได้)
-		 * @return true หากสามารถลบข้อมูลในฐานได้สำเร็จ
-		 * @throws NullPointerException
-		 *             <code>model</code> เป็น null
-		 * @see #id(Class, Object)
-		 * @see #transaction(Function)
-		 * @see EntityManager#getReference(Class, Object)
-		 * @see EntityManager#remove(Object)
+		 * @param size
+		 *            จำนวนข้อมูลที่อ่านจากฐานข้อมูลในแต่ละครั้ง (Fetch Size)
+		 * @param compiled
+		 *            คำสั่ง JPQL และ Parameter ของคำสั่ง
+		 * @return {@link Stream} ของข้อมูลตามคำสั่ง
+		 * @throws Throwable
+		 *             ไม่สามารถเปิด {@link Stream} ได้ ({@link EntityManager}
+		 *             จะถูกปิดก่อน throw)
+		 * @see #stream(Model, int, CharSequence, Object...)
 		 */
-		protected <E> boolean del(Model<E> model, Iterable<Object> id)
-				throws NullPointerException {
+		protected <E> Stream<E> cursor(
+				Model<E> model, int size, Compiled compiled) throws Throwable {
+			EntityManager manager = factory(
+					factory -> factory.createEntityManager());
 			try {
-				return transaction(manager -> {
-					for (Object i : id) {
-						manager.remove(manager.getReference(
-								model.clazz, id(model.clazz, i)));
+				Query query = inject(
+						query(manager, compiled.statement, model.clazz),
+						compiled.params);
+				Iterator<?> source;
+				if (query.getClass().getName()
+						.startsWith("org.eclipse.persistence.")) {
+					query.setHint("eclipselink.cursor.scrollable", true);
+					query.setHint(
+							"eclipselink.cursor.scrollable.result-set-type",
+							"ForwardOnly");
+					query.setHint("eclipselink.jdbc.fetch-size", size);
+					source = (Iterator<?>) query.getSingleResult();
+				} else {
+					int first = query.getFirstResult();
+					int max = query.getMaxResults();
+					source = new Iterator<Object>() {
+						int offset = first;
+						int remain = max;
+						Iterator<?> page = Collections.emptyIterator();
+						boolean last;
+
+						@Override
+						public boolean hasNext() {
+							while (!page.hasNext()) {
+								if (last || remain <= 0) return false;
+								List<?> list = query
+										.setFirstResult(offset)
+										.setMaxResults(Math.min(size, remain))
+										.getResultList();
+								offset += list.size();
+								remain -= list.size();
+								last = list.size() < size;
+								page = list.iterator();
+							}
+							return true;
+						}
+
+						@Override
+						public Object next() {
+							if (!hasNext()) throw new NoSuchElementException();
+							return page.next();
+						}
+					};
+				}
+				Iterator<E> iterator = new Iterator<E>() {
+					int count;
+
+					@Override
+					public boolean hasNext() {
+						return source.hasNext();
 					}
-					return true;
-				});
+
+					@Override
+					public E next() {
+						if (count++ == size) {
+							count = 1;
+							manager.clear();
+						}
+						return Cast.$(source.next());
+					}
+				};
+				return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+						iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+						false).onClose(() -> {
+							try {
+								if (source instanceof AutoCloseable) {
+									((AutoCloseable) source).close();
+								} else {
+									source.getClass()
+											.getMethod("close")
+											.invoke(source);
+								}
+							} catch (NoSuchMethodException e) {} catch (Throwable e) {
+								model.caught(e);
+							} finally {
+								manager.close();
+							}
+						});
 			} catch (Throwable e) {
-				model.caught(e);
-				return false;
+				manager.close();
+				throw e;
 			}
 		}
 
 		/**
-		 * ลบข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 * ล้าง {@link Cache} ใน {@link EntityManagerFactory}
 		 *
 		 * @param model
 		 *            {@link Model} ของข้อมูล
-		 * @param criteria
-		 *            เงื่อนใขในการระบุข้อมูลที่ต้องการลบ
-		 * @param params
-		 *            Parameter ใน <code>criteria</code>
-		 * @return จำนวนข้อมูลที่ถูกลบ <br />
-		 *         (หากไม่สามารถลบข้อมูลได้ จะ return -1)
+		 * @param id
+		 *            ID ของข้อมูลที่ต้องการล้าง {@link Cache} (<code>id</code>
+		 *            เป็น null จะล้าง {@link Cache} ทั้ง <code>model</code>)
+		 * @return true หากสามารถล้าง {@link Cache} ได้สำเร็จ
 		 * @throws NullPointerException
 		 *             <code>model</code> เป็น null
-		 * @see #jpql(Function, CharSequence, Object...)
-		 * @see Query#executeUpdate()
+		 * @see #factory(Function)
+		 * @see #id(Class, Object)
+		 * @see Cache#evict(Class)
+		 * @see Cache#evict(Class, Object)
 		 */
-		protected <E> int del(
-				Model<E> model, CharSequence criteria, Object... params)
+		protected <E> boolean clear(Model<E> model, Object... id)
 				throws NullPointerException {
 			try {
-				StringBuilder statement = new StringBuilder("DELETE FROM ")
-						.append(model.clazz.getSimpleName())
-						.append(model.as);
-				if (criteria != null && criteria.length() > 0) {
-					statement.append(" WHERE ").append(criteria);
-				}
-				return jpql(query -> query.executeUpdate(), statement,
-						build(model, statement, params));
+				return factory(factory -> {
+					if (id == null || id.length == 0) {
+						factory.getCache().evict(model.clazz);
+					} else {
+						for (Object i : id) {
+							factory.getCache()
+									.evict(model.clazz, id(model.clazz, i));
+						}
+					}
+					return true;
+				});
 			} catch (Throwable e) {
-				model.caught(e);
-				return -1;
+				return false;
 			}
 		}
 
 		/**
-		 * ค้นหาข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
+		 * สร้าง {@link EntityManagerFactory}
+		 * เพื่อใช้ในการเข้าถึงและปฏิบัติต่อฐานข้อมูล
 		 *
-		 * @param model
-		 *            {@link Model} ของข้อมูล
-		 * @param id
-		 *            ID ของข้อมูลที่ต้องการ
-		 * @return ข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
-		 * @throws NullPointerException
-		 *             <code>model</code> เป็น null
-		 * @throws IllegalArgumentException
-		 *             <code>id</code> ไม่ใช่ Object ของ Primary Key ของ
-		 *             <code>model</code>
+		 * @param function
+		 *            Functional Interface สำหรับรับเอา
+		 *            {@link EntityManagerFactory} ไปดำเนินการต่อ
+		 * @return ค่าที่ได้จากการดำเนินการของ <code>function</code>
 		 * @throws UnsupportedOperationException
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-		 * @see #id(Class, Object)
-		 * @see #manager(Function)
-		 * @see EntityManager#find(Class, Object)
+		 * @see EntityManagerFactory
+		 * @see Function#apply(Object)
 		 */
-		protected <E> E find(Model<E> model, Object id)
-				throws NullPointerException,
-				IllegalArgumentException,
-				UnsupportedOperationException {
-			if (id == null) return null;
-			return manager(manager -> {
+		public abstract <R> R factory(
+				Function<EntityManagerFactory, R> function)
+				throws UnsupportedOperationException;
+
+		/**
+		 * สร้าง {@link Model} Object
+		 * สำหรับใช้ในการจัดเข้าถึงหรือปฏิบัติต่อฐานข้อมูลตามตารางของ
+		 * {@link Entity} Class ที่กำหนด
+		 *
+		 * @param clazz
+		 *            {@link Entity} Clazz ที่ต้องการสร้าง Model
+		 * @param alias
+		 *            เชื่อแทนของ Entity Name (default "e")
+		 * @return {@link Model} Object
+		 * @throws ClassCastException
+		 *             ไม่สามารถแปล Object ของ {@link Model} ที่สร้างขึ้นเป็น
+		 *             Object ของ Sub Class ที่กำหนดได้
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @see #register
+		 * @see Model#Model(Model.Factory, Class, String)
+		 * @see Creator
+		 */
+		public <E, M extends Model<E>> M create(Class<E> clazz, String alias)
+				throws ClassCastException, NullPointerException {
+			Creator creator = creators.get(clazz);
+			if (creator != null) {
 				try {
-					return manager.find(model.clazz, id(model.clazz, id));
+					return Cast.$(creator.create(alias));
 				} catch (Throwable e) {
-					model.caught(e);
-					return null;
+					creators.remove(clazz, creator);
 				}
-			});
+			}
+			if (register != null) {
+				for (Class<? extends Model<?>> register : register) {
+					if (Generic.$(register, Model.class, "E") == clazz) {
+						try {
+							Constructor<?>[] found = new Constructor<?>[1];
+							Model<?> model = found(register, alias, found);
+							try {
+								creators.putIfAbsent(
+										clazz, new Creator(found[0], register));
+							} catch (Throwable e) {}
+							return Cast.$(model);
+						} catch (Throwable e) {}
+					}
+				}
+			}
+			try {
+				creators.putIfAbsent(clazz, new Creator(Model.class
+						.getDeclaredConstructor(Factory.class, Class.class,
+								String.class), clazz));
+			} catch (Throwable e) {}
+			return Cast.$(new Model<>(this, clazz, alias));
+		}
+
+		/**
+		 * สร้าง {@link Model} Object
+		 * สำหรับใช้ในการจัดเข้าถึงหรือปฏิบัติต่อฐานข้อมูลตามตารางของ
+		 * {@link Entity} Class ที่กำหนด
+		 *
+		 * @param clazz
+		 *            {@link Entity} Clazz ที่ต้องการสร้าง Model
+		 * @return {@link Model} Object
+		 * @throws ClassCastException
+		 *             ไม่สามารถแปล Object ของ {@link Model} ที่สร้างขึ้นเป็น
+		 *             Object ของ Sub Class ที่กำหนดได้
+		 * @throws NullPointerException
+		 *             <code>clazz</code> เป็น null
+		 * @see #create(Class, String)
+		 */
+		public <E, M extends Model<E>> M create(Class<E> clazz)
+				throws ClassCastException, NullPointerException {
+			return create(clazz, null);
+		}
+
+		/**
+		 * ประกาศรูปแบบคำสั่งค้นหาที่ใช้บ่อย
+		 * เพื่อให้ถูกแปลงคำสั่งไว้ล่วงหน้าใน {@link #warmup(Class...)}
+		 * (ค่าของ Parameter ไม่มีผล ยกเว้นค่าที่ทำให้คำสั่ง JPQL เปลี่ยนรูป
+		 * เช่น null)
+		 *
+		 * @param model
+		 *            {@link Model} ที่ประกาศคำสั่ง
+		 * @param selector
+		 *            ตัวระบุข้อมูลจากการค้นหา (null : {@link Entity} Object)
+		 * @param criteria
+		 *            คำสั่งระบุเงื่อนไข
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return คำสั่ง JPQL ที่ประกาศ
+		 * @throws NullPointerException
+		 *             <code>model</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             ไม่สามารถสร้างคำสั่งตาม <code>params</code> ที่กำหนดได้
+		 * @see Model#warmup()
+		 * @see #finds(Model, Selector, CharSequence, Object...)
+		 */
+		protected String warm(Model<?> model,
+				Selector<?, ?> selector,
+				CharSequence criteria,
+				Object... params)
+				throws NullPointerException, IllegalArgumentException {
+			String statement = template(model, selector, criteria, params);
+			warmups.putIfAbsent(statement, model);
+			return statement;
 		}
 
 		/**
-		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 * สร้างคำสั่ง JPQL ของคำสั่งค้นหาแบบเดียวกับ
+		 * {@link #finds(Model, Selector, CharSequence, Object...)}
+		 * โดยไม่ประมวลผลคำสั่ง
 		 *
 		 * @param model
-		 *            {@link Model} ของข้อมูล
+		 *            {@link Model} ที่ต้องสร้างคำสั่ง
+		 * @param selector
+		 *            ตัวระบุข้อมูลจากการค้นหา (null : {@link Entity} Object)
 		 * @param criteria
-		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 *            คำสั่งระบุเงื่อนไข
 		 * @param params
 		 *            Parameter ใน <code>criteria</code>
-		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 * @return คำสั่ง JPQL
 		 * @throws NullPointerException
 		 *             <code>model</code> เป็น null
 		 * @throws IllegalArgumentException
-		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
-		 *             ไม่ถูกต้อง
-		 * @throws UnsupportedOperationException
-		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-		 * @see #jpql(Function, Class, CharSequence, Object...)
-		 * @see #build(Model, StringBuilder, Object...)
-		 * @see TypedQuery#getSingleResult()
+		 *             ไม่สามารถสร้างคำสั่งตาม <code>params</code> ที่กำหนดได้
 		 */
-		protected <E> E find(
-				Model<E> model, CharSequence criteria, Object... params)
-				throws NullPointerException,
-				IllegalArgumentException,
-				UnsupportedOperationException {
-			StringBuilder statement = new StringBuilder("SELECT ")
-					.append(model.as).append(" FROM ")
-					.append(model.clazz.getSimpleName())
-					.append(' ').append(model.as);
-			if (criteria != null && criteria.length() > 0) {
-				statement.append(" WHERE ").append(criteria);
-			}
-			return jpql(query -> {
-				try {
-					return query.getSingleResult();
-				} catch (NoResultException e) {
-					return null;
-				} catch (Throwable e) {
-					model.caught(e);
-					return null;
+		protected String template(Model<?> model,
+				Selector<?, ?> selector,
+				CharSequence criteria,
+				Object... params)
+				throws NullPointerException, IllegalArgumentException {
+			if (selector instanceof Statement) {
+				if (params == null || params.length == 0) {
+					params = new Object[] { selector };
+				} else {
+					params = Cast.$.array(params, params.length + 1);
+					params[params.length - 1] = selector;
 				}
-			}, model.clazz, statement, build(model, statement, params));
+			}
+			return compile(model, "SELECT",
+					selector == null ? null : selector.selector(model),
+					criteria, params).statement;
 		}
 
 		/**
-		 * ค้นหาข้อมูลในฐานข้อมูลโดยระบุข้อมูลที่ต้องการตามเงื่อนไขที่ระบุ
+		 * ลงทะเบียนคำสั่งค้นหาเป็น Named Query ของ
+		 * {@link EntityManagerFactory}
+		 * ({@link EntityManagerFactory#addNamedQuery(String, Query)})
+		 * หลังจากนี้ทุกคำสั่งที่ได้คำสั่ง JPQL เดียวกันจะถูกสร้างด้วย
+		 * {@link EntityManager#createNamedQuery(String, Class)}
+		 * และผูกเพียงค่า Parameter โดยไม่ต้องแปลงคำสั่ง JPQL ใหม่
 		 *
 		 * @param model
-		 *            {@link Model} ของข้อมูล
+		 *            {@link Model} ที่ต้องสร้างคำสั่ง
 		 * @param selector
-		 *            ตัวระบุข้อมูลที่ต้องการ
+		 *            ตัวระบุข้อมูลจากการค้นหา (null : {@link Entity} Object)
 		 * @param criteria
-		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 *            คำสั่งระบุเงื่อนไข
 		 * @param params
 		 *            Parameter ใน <code>criteria</code>
-		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 * @return ชื่อของ Named Query
 		 * @throws NullPointerException
 		 *             <code>model</code> เป็น null
 		 * @throws IllegalArgumentException
-		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
-		 *             ไม่ถูกต้อง
+		 *             ไม่สามารถสร้างคำสั่งตาม <code>params</code> ที่กำหนดได้
 		 * @throws UnsupportedOperationException
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-		 * @see #jpql(Function, Class, CharSequence, Object...)
-		 * @see #build(Model, StringBuilder, Object...)
-		 * @see TypedQuery#getResultList()
+		 * @see #query(EntityManager, String, Class)
 		 */
-		protected <S, R> R find(Model<?> model,
-				Selector<S, R> selector,
+		protected String prepare(Model<?> model,
+				Selector<?, ?> selector,
 				CharSequence criteria,
 				Object... params)
 				throws NullPointerException,
 				IllegalArgumentException,
 				UnsupportedOperationException {
-			StringBuilder statement = new StringBuilder("SELECT ")
-					.append(selector.selector(model)).append(" FROM ")
-					.append(model.clazz.getSimpleName())
-					.append(' ').append(model.as);
-			if (criteria != null && criteria.length() > 0) {
-				statement.append(" WHERE ").append(criteria);
+			String statement = template(model, selector, criteria, params);
+			return manager(manager -> {
+				EntityManagerFactory factory =
+						manager.getEntityManagerFactory();
+				ConcurrentHashMap<String, String> names =
+						prepared.computeIfAbsent(factory,
+								f -> new ConcurrentHashMap<>());
+				String name = names.get(statement);
+				if (name != null) return name;
+				String named = "jpa-model:" + statement;
+				factory.addNamedQuery(named, manager.createQuery(statement));
+				name = names.putIfAbsent(statement, named);
+				return name == null ? named : name;
+			});
+		}
+
+		/**
+		 * เรียกชื่อ Named Query ของคำสั่ง JPQL ที่ลงทะเบียนไว้กับ
+		 * {@link EntityManagerFactory} ของ <code>manager</code>
+		 *
+		 * @param manager
+		 *            {@link EntityManager} ที่ใช้สร้าง {@link Query}
+		 * @param jpql
+		 *            คำสั่ง JPQL
+		 * @return ชื่อ Named Query หรือ null หากไม่ได้ลงทะเบียนไว้
+		 */
+		private String named(EntityManager manager, String jpql) {
+			if (prepared.isEmpty()) return null;
+			Map<String, String> names = prepared.get(
+					manager.getEntityManagerFactory());
+			return names == null ? null : names.get(jpql);
+		}
+
+		/**
+		 * ยกเลิกชื่อ Named Query ของคำสั่ง JPQL ที่ไม่พบใน
+		 * {@link EntityManagerFactory} ของ <code>manager</code>
+		 *
+		 * @param manager
+		 *            {@link EntityManager} ที่ใช้สร้าง {@link Query}
+		 * @param jpql
+		 *            คำสั่ง JPQL
+		 * @param name
+		 *            ชื่อ Named Query
+		 */
+		private void unnamed(EntityManager manager, String jpql, String name) {
+			Map<String, String> names = prepared.get(
+					manager.getEntityManagerFactory());
+			if (names != null) {
+				names.remove(jpql, name);
 			}
-			return jpql(query -> {
+		}
+
+		/**
+		 * สร้าง {@link TypedQuery} จากคำสั่ง JPQL โดยใช้ Named Query
+		 * หากคำสั่งถูกลงทะเบียนไว้แล้ว (หากไม่พบ Named Query ใน
+		 * {@link EntityManagerFactory} จะสร้างจากคำสั่ง JPQL แทน)
+		 *
+		 * @param manager
+		 *            {@link EntityManager} ที่ใช้สร้าง {@link TypedQuery}
+		 * @param jpql
+		 *            คำสั่ง JPQL
+		 * @param clazz
+		 *            Result {@link Class} ของ {@link TypedQuery}
+		 * @return {@link TypedQuery} ของคำสั่ง
+		 * @throws IllegalArgumentException
+		 *             คำสั่ง <code>jpql</code> ไม่ถูกต้อง
+		 * @see #prepare(Model, Selector, CharSequence, Object...)
+		 */
+		protected <E> TypedQuery<E> query(
+				EntityManager manager, String jpql, Class<E> clazz)
+				throws IllegalArgumentException {
+			String name = named(manager, jpql);
+			if (name != null) {
 				try {
-					return selector.result(query.getSingleResult());
-				} catch (Throwable e) {
-					model.caught(e);
-					return null;
+					return manager.createNamedQuery(name, clazz);
+				} catch (IllegalArgumentException e) {
+					unnamed(manager, jpql, name);
 				}
-			}, selector.clazz(), statement, build(model, statement, params));
+			}
+			return manager.createQuery(jpql, clazz);
 		}
 
 		/**
-		 * ค้นหาข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
+		 * สร้าง {@link Query} จากคำสั่ง JPQL โดยใช้ Named Query
+		 * หากคำสั่งถูกลงทะเบียนไว้แล้ว (หากไม่พบ Named Query ใน
+		 * {@link EntityManagerFactory} จะสร้างจากคำสั่ง JPQL แทน)
 		 *
-		 * @param model
-		 *            {@link Model} ของข้อมูล
-		 * @param id
-		 *            ID ของข้อมูลที่ต้องการ
-		 * @return ข้อมูลในฐานข้อมูล ณ ID ที่ระบุ
-		 * @throws NullPointerException
-		 *             <code>model</code> เป็น null
+		 * @param manager
+		 *            {@link EntityManager} ที่ใช้สร้าง {@link Query}
+		 * @param jpql
+		 *            คำสั่ง JPQL
+		 * @return {@link Query} ของคำสั่ง
 		 * @throws IllegalArgumentException
-		 *             <code>id</code> ไม่ใช่ Object ของ Primary Key ของ
-		 *             <code>model</code>
+		 *             คำสั่ง <code>jpql</code> ไม่ถูกต้อง
+		 * @see #prepare(Model, Selector, CharSequence, Object...)
+		 */
+		protected Query query(EntityManager manager, String jpql)
+				throws IllegalArgumentException {
+			String name = named(manager, jpql);
+			if (name != null) {
+				try {
+					return manager.createNamedQuery(name);
+				} catch (IllegalArgumentException e) {
+					unnamed(manager, jpql, name);
+				}
+			}
+			return manager.createQuery(jpql);
+		}
+
+		/**
+		 * อุ่นเครื่องก่อนเริ่มใช้งาน โดยเรียก {@link Model#warmup()} ของ
+		 * {@link Model} ทุกตัวที่ลงทะเบียนไว้ ({@link #register}) และของ
+		 * {@link Entity} Class ที่ระบุ แล้วแปลงคำสั่ง JPQL
+		 * ที่ประกาศไว้ทั้งหมดผ่าน {@link EntityManager#createQuery(String)}
+		 * ให้ Persistence Framework เก็บผลการแปลงคำสั่งไว้ใช้ซ้ำ
+		 * (ควรกำหนดขนาดด้วย {@link #parseCache(int)}
+		 * ให้เพียงพอกับจำนวนคำสั่งก่อนเรียกใช้ เนื่องจากการกำหนดขนาดภายหลัง
+		 * จะล้างผลการแปลงทั้งหมด)
+		 *
+		 * @param entities
+		 *            {@link Entity} Class ที่ต้องการอุ่นเครื่องเพิ่มเติม
+		 * @return ระยะเวลา (Nanosecond) ที่ใช้แปลงแต่ละคำสั่ง ตามลำดับการแปลง
+		 *         (-1 : แปลงคำสั่งไม่สำเร็จ)
 		 * @throws UnsupportedOperationException
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-		 * @see #id(Class, Object)
-		 * @see #finds(Model, CharSequence, Object...)
+		 * @see #warm(Model, Selector, CharSequence, Object...)
+		 * @see #warmup(int, Class...)
 		 */
-		protected <E> List<E> finds(Model<E> model, Object... id)
-				throws NullPointerException,
-				IllegalArgumentException,
-				UnsupportedOperationException {
-			if (id == null || id.length == 0)
-				return finds(model, (CharSequence) null);
-			id = id.clone();
-			for (int i = 0; i < id.length; i++) {
-				id[i] = id(model.clazz, id[i]);
+		public Map<String, Long> warmup(Class<?>... entities)
+				throws UnsupportedOperationException {
+			if (register != null) {
+				for (Class<? extends Model<?>> register : register) {
+					Class<?> clazz = Generic.$(register, Model.class, "E");
+					if (clazz != null) {
+						create(clazz).warmup();
+					}
+				}
+			}
+			if (entities != null) {
+				for (Class<?> clazz : entities) {
+					create(clazz).warmup();
+				}
+			}
+			LinkedHashMap<String, Long> report = new LinkedHashMap<>();
+			EntityManager manager = factory(
+					factory -> factory.createEntityManager());
+			try {
+				for (Map.Entry<String, Model<?>> warm : warmups.entrySet()) {
+					long start = System.nanoTime();
+					try {
+						manager.createQuery(warm.getKey());
+						report.put(warm.getKey(), System.nanoTime() - start);
+					} catch (Throwable e) {
+						warm.getValue().caught(e);
+						report.put(warm.getKey(), -1L);
+					}
+				}
+			} finally {
+				manager.close();
 			}
-			return finds(model, pk(model.clazz).getName() + " IN ?", id);
+			return report;
 		}
 
 		/**
-		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 * กำหนดจำนวนคำสั่ง JPQL สูงสุดที่ EclipseLink เก็บผลการแปลงไว้
+		 * ด้วย {@link #parseCache(int)} แล้วจึงอุ่นเครื่องด้วย
+		 * {@link #warmup(Class...)} เพื่อไม่ให้ผลการแปลงถูกล้างภายหลัง
 		 *
-		 * @param model
-		 *            {@link Model} ของข้อมูล
-		 * @param criteria
-		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
-		 * @param params
-		 *            Parameter ใน <code>criteria</code>
-		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
-		 * @throws NullPointerException
-		 *             <code>model</code> เป็น null
+		 * @param cache
+		 *            จำนวนคำสั่งสูงสุดที่เก็บผลการแปลงไว้
+		 * @param entities
+		 *            {@link Entity} Class ที่ต้องการอุ่นเครื่องเพิ่มเติม
+		 * @return ระยะเวลา (Nanosecond) ที่ใช้แปลงแต่ละคำสั่ง ตามลำดับการแปลง
+		 *         (-1 : แปลงคำสั่งไม่สำเร็จ)
 		 * @throws IllegalArgumentException
-		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
-		 *             ไม่ถูกต้อง
+		 *             <code>cache</code> น้อยกว่า 1
 		 * @throws UnsupportedOperationException
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-		 * @see #jpql(Function, Class, CharSequence, Object...)
-		 * @see #build(Model, StringBuilder, Object...)
-		 * @see TypedQuery#getResultList()
+		 * @see #parseCache(int)
 		 */
-		protected <E> List<E> finds(
-				Model<E> model, CharSequence criteria, Object... params)
-				throws NullPointerException,
-				IllegalArgumentException,
-				UnsupportedOperationException {
-			StringBuilder statement = new StringBuilder("SELECT ")
-					.append(model.as).append(" FROM ")
-					.append(model.clazz.getSimpleName())
-					.append(' ').append(model.as);
-			if (criteria != null && criteria.length() > 0) {
-				statement.append(" WHERE ").append(criteria);
+		public Map<String, Long> warmup(int cache, Class<?>... entities)
+				throws IllegalArgumentException, UnsupportedOperationException {
+			parseCache(cache);
+			return warmup(entities);
+		}
+
+		/**
+		 * เรียก Project ของ EclipseLink ที่ใช้เก็บผลการแปลงคำสั่ง JPQL
+		 *
+		 * @param factory
+		 *            {@link EntityManagerFactory}
+		 * @return Project หรือ null หากไม่ได้ใช้ EclipseLink
+		 */
+		private static Object project(EntityManagerFactory factory) {
+			try {
+				Object session = factory.unwrap(Class.forName(
+						"org.eclipse.persistence.sessions.Session", false,
+						factory.getClass().getClassLoader()));
+				return session.getClass()
+						.getMethod("getProject").invoke(session);
+			} catch (Throwable e) {
+				return null;
 			}
-			return jpql(query -> {
+		}
+
+		/**
+		 * @return จำนวนคำสั่ง JPQL สูงสุดที่ EclipseLink เก็บผลการแปลงไว้ หรือ
+		 *         -1 หากไม่ได้ใช้ EclipseLink
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #parseCache(int)
+		 */
+		public int parseCache() throws UnsupportedOperationException {
+			return factory(factory -> {
+				Object project = project(factory);
 				try {
-					return query.getResultList();
+					return project == null ? -1 : (Integer) project.getClass()
+							.getMethod("getJPQLParseCacheMaxSize")
+							.invoke(project);
 				} catch (Throwable e) {
-					model.caught(e);
-					return null;
+					return -1;
 				}
-			}, model.clazz, statement, build(model, statement, params));
+			});
 		}
 
 		/**
-		 * ค้นหาข้อมูลในฐานข้อมูลโดยระบุข้อมูลที่ต้องการตามเงื่อนไขที่ระบุ
+		 * กำหนดจำนวนคำสั่ง JPQL สูงสุดที่ EclipseLink เก็บผลการแปลงไว้
+		 * (ค่าเริ่มต้นของ EclipseLink คือ 200 คำสั่ง) หากคำสั่งที่ใช้งานจริง
+		 * มีมากกว่านี้ ผลการแปลงจะถูกล้างและต้องแปลงคำสั่งใหม่
+		 * <br />
+		 * (EclipseLink จะสร้างที่เก็บผลการแปลงขึ้นใหม่ทุกครั้งที่กำหนดขนาด
+		 * ผลการแปลงเดิมทั้งหมดจะหายไป จึงต้องเรียกก่อน
+		 * {@link #warmup(Class...)} หรือใช้ {@link #warmup(int, Class...)}
+		 * แทน)
 		 *
-		 * @param model
-		 *            {@link Model} ของข้อมูล
-		 * @param selector
-		 *            ตัวระบุข้อมูลจากการค้นหา
-		 * @param criteria
-		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
-		 * @param params
-		 *            Parameter ใน <code>criteria</code>
-		 * @return ข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
-		 * @throws NullPointerException
-		 *             <code>model</code> เป็น null
+		 * @param size
+		 *            จำนวนคำสั่งสูงสุด
+		 * @return true หากกำหนดได้สำเร็จ, false หากไม่ได้ใช้ EclipseLink
 		 * @throws IllegalArgumentException
-		 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
-		 *             ไม่ถูกต้อง
+		 *             <code>size</code> น้อยกว่า 1
 		 * @throws UnsupportedOperationException
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-		 * @see #jpql(Function, Class, CharSequence, Object...)
-		 * @see #build(Model, StringBuilder, Object...)
-		 * @see TypedQuery#getResultList()
+		 * @see #warmup(Class...)
 		 */
-		protected <S, R> List<R> finds(Model<?> model,
-				Selector<S, R> selector,
-				CharSequence criteria,
-				Object... params)
-				throws NullPointerException,
-				IllegalArgumentException,
-				UnsupportedOperationException {
-			StringBuilder statement = new StringBuilder("SELECT ")
-					.append(selector.selector(model)).append(" FROM ")
-					.append(model.clazz.getSimpleName())
-					.append(' ').append(model.as);
-			if (criteria != null && criteria.length() > 0) {
-				statement.append(" WHERE ").append(criteria);
-			}
-			if (selector instanceof Statement) {
-				if (params == null || params.length == 0) {
-					params = new Object[] { selector };
-				} else {
-					params = Cast.$.array(params, params.length + 1);
-					params[params.length - 1] = selector;
-				}
-			}
-			return jpql(query -> {
+		public boolean parseCache(int size)
+				throws IllegalArgumentException, UnsupportedOperationException {
+			if (size < 1)
+				throw new IllegalArgumentException(
+						"Parse cache size must be greater than 0.");
+			return factory(factory -> {
+				Object project = project(factory);
 				try {
-					ArrayList<R> list = new ArrayList<>();
-					for (S result : query.getResultList()) {
-						list.add(selector.result(result));
-					}
-					return list;
+					Method method = project.getClass().getMethod(
+							"setJPQLParseCacheMaxSize", int.class);
+					method.invoke(project, size);
+					return true;
 				} catch (Throwable e) {
-					model.caught(e);
-					return null;
+					return false;
 				}
-			}, selector.clazz(), statement, build(model, statement, params));
+			});
 		}
 
 		/**
-		 * ล้าง {@link Cache} ใน {@link EntityManagerFactory}
+		 * เปิด Unit of Work ที่ผูก {@link EntityManager} ตัวเดียวไว้กับ Thread
+		 * ปัจจุบัน ทุกคำสั่งภายใน <code>function</code> ที่เรียกผ่าน
+		 * {@link #manager(Function)} หรือ {@link #transaction(Function)}
+		 * จะใช้ {@link EntityManager} (และ Persistence Context) ตัวเดียวกัน
+		 * ข้อมูลเดียวกันจึงไม่ถูกโหลดซ้ำภายใน Scope
+		 * <br />
+		 * (หากมี Scope อยู่แล้ว จะใช้ Scope เดิม)
 		 *
-		 * @param model
-		 *            {@link Model} ของข้อมูล
-		 * @param id
-		 *            ID ของข้อมูลที่ต้องการล้าง {@link Cache} (<code>id</code>
-		 *            เป็น null จะล้าง {@link Cache} ทั้ง <code>model</code>)
-		 * @return true หากสามารถล้าง {@link Cache} ได้สำเร็จ
-		 * @throws NullPointerException
-		 *             <code>model</code> เป็น null
-		 * @see #factory(Function)
-		 * @see #id(Class, Object)
-		 * @see Cache#evict(Class)
-		 * @see Cache#evict(Class, Object)
+		 * @param transaction
+		 *            true หากต้องการให้ทั้ง Scope อยู่ใน
+		 *            {@link EntityTransaction} เดียวกัน
+		 *            (ยกเลิกทั้งหมดหากเกิดข้อผิดพลาดใน <code>function</code>)
+		 * @param function
+		 *            Functional Interface ที่จะดำเนินการภายใน Scope
+		 * @return ผลจากการดำเนินการของ <code>function</code>
+		 * @throws UnsupportedOperationException
+		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+		 * @see #manager(Function)
+		 * @see #transaction(Function)
 		 */
-		protected <E> boolean clear(Model<E> model, Object... id)
-				throws NullPointerException {
-			try {
-				return factory(factory -> {
-					if (id == null || id.length == 0) {
-						factory.getCache().evict(model.clazz);
-					} else {
-						for (Object i : id) {
-							factory.getCache()
-									.evict(model.clazz, id(model.clazz, i));
+		public <R> R scope(boolean transaction, Supplier<R> function)
+				throws UnsupportedOperationException {
+			Function<EntityManager, R> apply = transaction
+					? manager -> transaction(scoped -> {
+						try {
+							return function.get();
+						} catch (RuntimeException | Error e) {
+							scoped.getTransaction().setRollbackOnly();
+							throw e;
+						}
+					}) : manager -> function.get();
+			if (scope.get() != null) return apply.apply(scope.get());
+			return factory(factory -> {
+				EntityManager manager = factory.createEntityManager();
+				scope.set(manager);
+				try {
+					return apply.apply(manager);
+				} finally {
+					scope.remove();
+					Set<Class<?>> classes = invalidated.get();
+					invalidated.remove();
+					try {
+						if (classes != null) {
+							classes.forEach(results::invalidate);
 						}
+					} finally {
+						manager.close();
 					}
-					return true;
-				});
-			} catch (Throwable e) {
-				return false;
-			}
+				}
+			});
 		}
 
 		/**
-		 * สร้าง {@link EntityManagerFactory}
-		 * เพื่อใช้ในการเข้าถึงและปฏิบัติต่อฐานข้อมูล
+		 * เปิด Unit of Work ที่ผูก {@link EntityManager} ตัวเดียวไว้กับ Thread
+		 * ปัจจุบัน (ไม่เปิด {@link EntityTransaction} ให้ทั้ง Scope)
 		 *
 		 * @param function
-		 *            Functional Interface สำหรับรับเอา
-		 *            {@link EntityManagerFactory} ไปดำเนินการต่อ
-		 * @return ค่าที่ได้จากการดำเนินการของ <code>function</code>
+		 *            Functional Interface ที่จะดำเนินการภายใน Scope
+		 * @return ผลจากการดำเนินการของ <code>function</code>
 		 * @throws UnsupportedOperationException
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-		 * @see EntityManagerFactory
-		 * @see Function#apply(Object)
+		 * @see #scope(boolean, Supplier)
 		 */
-		public abstract <R> R factory(
-				Function<EntityManagerFactory, R> function)
-				throws UnsupportedOperationException;
+		public <R> R scope(Supplier<R> function)
+				throws UnsupportedOperationException {
+			return scope(false, function);
+		}
 
 		/**
-		 * สร้าง {@link Model} Object
-		 * สำหรับใช้ในการจัดเข้าถึงหรือปฏิบัติต่อฐานข้อมูลตามตารางของ
-		 * {@link Entity} Class ที่กำหนด
+		 * กำหนด {@link Executor} สำหรับประมวลผลคำสั่งแบบ Asynchronous
 		 *
-		 * @param clazz
-		 *            {@link Entity} Clazz ที่ต้องการสร้าง Model
-		 * @param alias
-		 *            เชื่อแทนของ Entity Name (default "e")
-		 * @return {@link Model} Object
-		 * @throws ClassCastException
-		 *             ไม่สามารถแปล Object ของ {@link Model} ที่สร้างขึ้นเป็น
-		 *             Object ของ Sub Class ที่กำหนดได้
-		 * @throws NullPointerException
-		 *             <code>clazz</code> เป็น null
-		 * @see #register
-		 * @see Model#Model(Model.Factory, Class, String)
+		 * @param executor
+		 *            {@link #executor} (null จะใช้ค่าเริ่มต้น)
+		 * @return Object ตัวเอง
+		 * @see #async(Supplier)
 		 */
-		public <E, M extends Model<E>> M create(Class<E> clazz, String alias)
-				throws ClassCastException, NullPointerException {
-			if (register != null) {
-				for (Class<? extends Model<?>> register : register) {
-					if (Generic.$(register, Model.class, "E") == clazz) {
+		public Factory executor(Executor executor) {
+			this.executor = executor;
+			return this;
+		}
+
+		/**
+		 * เรียก {@link Executor} สำหรับประมวลผลคำสั่งแบบ Asynchronous
+		 * (ค่าเริ่มต้นเป็น Virtual Thread ต่อคำสั่งใน JDK 21 ขึ้นไป
+		 * หรือ Thread Pool แบบ Daemon ใน JDK ก่อนหน้า)
+		 *
+		 * @return {@link #executor}
+		 */
+		public Executor executor() {
+			Executor executor = this.executor;
+			if (executor == null) {
+				synchronized (this) {
+					if ((executor = this.executor) == null) {
 						try {
-							return Cast.$(found(register, alias));
-						} catch (Throwable e) {}
+							executor = (Executor) Executors.class
+									.getMethod("newVirtualThreadPerTaskExecutor")
+									.invoke(null);
+						} catch (ReflectiveOperationException e) {
+							executor = Executors.newCachedThreadPool(task -> {
+								Thread thread = new Thread(task,
+										"jpa-model-async");
+								thread.setDaemon(true);
+								return thread;
+							});
+						}
+						this.executor = executor;
 					}
 				}
 			}
-			return Cast.$(new Model<>(this, clazz, alias));
+			return executor;
 		}
 
 		/**
-		 * สร้าง {@link Model} Object
-		 * สำหรับใช้ในการจัดเข้าถึงหรือปฏิบัติต่อฐานข้อมูลตามตารางของ
-		 * {@link Entity} Class ที่กำหนด
+		 * @return จำนวนคำสั่งแบบ Asynchronous สูงสุดที่ประมวลผลพร้อมกันได้
+		 */
+		public int concurrency() {
+			return concurrency.limit;
+		}
+
+		/**
+		 * กำหนดจำนวนคำสั่งแบบ Asynchronous สูงสุดที่ประมวลผลพร้อมกันได้
+		 * (ควรเท่ากับขนาด Connection Pool ของ {@link EntityManagerFactory})
 		 *
-		 * @param clazz
-		 *            {@link Entity} Clazz ที่ต้องการสร้าง Model
-		 * @return {@link Model} Object
-		 * @throws ClassCastException
-		 *             ไม่สามารถแปล Object ของ {@link Model} ที่สร้างขึ้นเป็น
-		 *             Object ของ Sub Class ที่กำหนดได้
+		 * @param limit
+		 *            จำนวนคำสั่งสูงสุดที่ประมวลผลพร้อมกันได้
+		 * @return Object ตัวเอง
+		 * @throws IllegalArgumentException
+		 *             <code>limit</code> น้อยกว่า 1
+		 */
+		public Factory concurrency(int limit) throws IllegalArgumentException {
+			if (limit < 1)
+				throw new IllegalArgumentException(
+						"Concurrency must be greater than 0.");
+			concurrency = new Limit(limit);
+			return this;
+		}
+
+		/**
+		 * ประมวลผลคำสั่งแบบ Asynchronous บน {@link #executor()} โดยแต่ละคำสั่ง
+		 * จะได้ {@link EntityManager} ของตัวเอง และรอคิวหากมีคำสั่งที่กำลัง
+		 * ประมวลผลอยู่ครบ {@link #concurrency()} แล้ว<br />
+		 * (คำสั่งจะถูกส่งไปยัง {@link #executor()}
+		 * เมื่อได้รับสิทธิ์แล้วเท่านั้น การรอคิวจึงไม่ใช้ Thread ของ
+		 * {@link #executor()})
+		 * <p>
+		 * หากถูกเรียกจากคำสั่งแบบ Asynchronous ที่ถือสิทธิ์อยู่แล้ว
+		 * <code>function</code> จะถูกประมวลผลทันทีใน Thread ที่เรียก
+		 * (ไม่ขอสิทธิ์เพิ่ม) เพื่อไม่ให้คำสั่งที่รอผลของคำสั่งซ้อน Deadlock
+		 * เมื่อสิทธิ์หมด
+		 * </p>
+		 *
+		 * @param function
+		 *            Functional Interface ของคำสั่งที่ต้องการประมวลผล
+		 * @return {@link CompletableFuture} ของผลจากการดำเนินการของ
+		 *         <code>function</code>
 		 * @throws NullPointerException
-		 *             <code>clazz</code> เป็น null
-		 * @see #create(Class, String)
+		 *             <code>function</code> เป็น null
 		 */
-		public <E, M extends Model<E>> M create(Class<E> clazz)
-				throws ClassCastException, NullPointerException {
-			return create(clazz, null);
+		public <R> CompletableFuture<R> async(Supplier<R> function)
+				throws NullPointerException {
+			if (function == null) throw new NullPointerException();
+			CompletableFuture<R> future = new CompletableFuture<>();
+			if (running.get() != null) {
+				try {
+					future.complete(function.get());
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+				return future;
+			}
+			Limit limit = concurrency;
+			Executor executor = executor();
+			limit.acquire(() -> {
+				try {
+					executor.execute(() -> {
+						running.set(limit);
+						try {
+							future.complete(function.get());
+						} catch (Throwable e) {
+							future.completeExceptionally(e);
+						} finally {
+							running.remove();
+							limit.release();
+						}
+					});
+				} catch (Throwable e) {
+					limit.release();
+					future.completeExceptionally(e);
+				}
+			});
+			return future;
 		}
 
 		/**
 		 * สร้าง {@link EntityManager} จาก {@link EntityManagerFactory}
 		 * เพื่อใช้ในการเข้าถึงข้อมูลในฐานข้อมูล
+		 * (หากอยู่ใน {@link #scope(boolean, Supplier)} จะใช้
+		 * {@link EntityManager} ของ Scope และไม่ปิดเมื่อจบการทำงาน)
 		 *
 		 * @param function
 		 *            Functional Interface ที่จะรับเอา {@link EntityManager}
@@ -1538,6 +5295,8 @@ public class Model<E> {
 		 */
 		public <R> R manager(Function<EntityManager, R> function)
 				throws UnsupportedOperationException {
+			EntityManager scoped = scope.get();
+			if (scoped != null) return function.apply(scoped);
 			return factory(factory -> {
 				EntityManager manager = factory.createEntityManager();
 				try {
@@ -1551,6 +5310,9 @@ public class Model<E> {
 		/**
 		 * เปิด {@link EntityTransaction} จาก {@link EntityManager}
 		 * เพื่อให้คำสั่งในการปฏิบัติมีผลต่อฐานข้อมูลจริง
+		 * (หาก {@link EntityManager} มี {@link EntityTransaction}
+		 * เปิดอยู่แล้ว จะดำเนินการภายใน {@link EntityTransaction} เดิม
+		 * และกำหนดให้ยกเลิกเมื่อเกิดข้อผิดพลาด)
 		 *
 		 * @param function
 		 *            Functional Interface ที่จะรับเอา {@link EntityManager}
@@ -1567,6 +5329,14 @@ public class Model<E> {
 		public <R> R transaction(Function<EntityManager, R> function)
 				throws UnsupportedOperationException {
 			return manager(manager -> {
+				if (manager.getTransaction().isActive()) {
+					try {
+						return function.apply(manager);
+					} catch (RuntimeException | Error e) {
+						manager.getTransaction().setRollbackOnly();
+						throw e;
+					}
+				}
 				try {
 					manager.setFlushMode(FlushModeType.COMMIT);
 					manager.getTransaction().begin();
@@ -1608,6 +5378,7 @@ public class Model<E> {
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
 		 * @see #manager(Function)
 		 * @see #inject(Query, Object...)
+		 * @see #query(EntityManager, String, Class)
 		 * @see EntityManager#createQuery(String, Class)
 		 * @see Function#apply(Object)
 		 */
@@ -1620,7 +5391,7 @@ public class Model<E> {
 				UnsupportedOperationException {
 			String jpql = statement.toString();
 			return manager(manager -> function.apply(
-					inject(manager.createQuery(jpql, clazz), params)));
+					inject(query(manager, jpql, clazz), params)));
 		}
 
 		/**
@@ -1646,6 +5417,7 @@ public class Model<E> {
 		 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
 		 * @see #transaction(Function)
 		 * @see #inject(Query, Object...)
+		 * @see #query(EntityManager, String)
 		 * @see EntityManager#createQuery(String)
 		 * @see Function#apply(Object)
 		 */
@@ -1657,7 +5429,7 @@ public class Model<E> {
 				UnsupportedOperationException {
 			String jpql = statement.toString();
 			return transaction(manager -> function.apply(
-					inject(manager.createQuery(jpql), params)));
+					inject(query(manager, jpql), params)));
 		}
 
 		/**
@@ -2277,103 +6049,405 @@ public class Model<E> {
 		 *             <code>field</code> เป็น null หรือ ""
 		 * @see Model.Factory.Logic#Logic(String, String, Object, String)
 		 */
-		public Logic(String field, Object value) throws NullPointerException {
-			super(field, null, value, null);
+		public Logic(String field, Object value) throws NullPointerException {
+			super(field, null, value, null);
+		}
+	}
+
+	/**
+	 * Class <code>Model.Aggregate</code> สำหรับใช้ในการประมวลผล Aggregate
+	 * Function
+	 *
+	 * @author เสือไฮ่
+	 */
+	public static class Aggregate implements Model.Factory.Statement,
+		Model.Factory.Selector<Object[], Map<String, Object>> {
+		/**
+		 * Field สำหรับ สร้าง Expression "GROUP BY"
+		 */
+		private final String[] fields;
+		/**
+		 * Aggregate Function
+		 */
+		private final Map<String, String> with = new LinkedHashMap<>();
+		/**
+		 * ชื่อ Column ของผลลัพธ์ที่คำนวณไว้แล้ว (สร้างใหม่เมื่อเรียก
+		 * {@link #with(String, String)})
+		 */
+		private volatile Layout layout;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Aggregate} Object
+		 *
+		 * @param fields
+		 *            {@link #fields}
+		 * @throws NullPointerException
+		 *             <code>fields</code> เป็น null หรือ
+		 *             <code>fields.length</code> = 0 หรือ เป็น Empty String
+		 */
+		public Aggregate(String... fields) throws NullPointerException {
+			if ((this.fields = fields) == null || fields.length == 0)
+				throw new NullPointerException();
+		}
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Aggregate} Object
+		 *
+		 * @param fields
+		 *            {@link #fields}
+		 * @throws NullPointerException
+		 *             <code>fields</code> เป็น null หรือ
+		 *             <code>fields.length</code> = 0 หรือ เป็น Empty String
+		 * @see String#split(String)
+		 */
+		public Aggregate(String fields) throws NullPointerException {
+			this(fields.split(" *, *"));
+		}
+
+		/**
+		 * Aggregate Function
+		 *
+		 * @param key
+		 *            ชื่อใน Map Result
+		 * @param value
+		 *            คำสั่ง Aggregate Function
+		 * @return Object ตัวเอง
+		 */
+		public Aggregate with(String key, String value) {
+			with.put(key, value);
+			layout = null;
+			return this;
+		}
+
+		/**
+		 * เรียก {@link Layout} ของผลลัพธ์ (สร้างเมื่อถูกเรียกใช้ครั้งแรก)
+		 *
+		 * @return {@link #layout}
+		 */
+		protected Layout layout() {
+			Layout layout = this.layout;
+			if (layout == null) {
+				String[] keys = Cast.$.array(fields, fields.length + with.size());
+				int i = fields.length;
+				for (String key : with.keySet()) {
+					keys[i++] = key;
+				}
+				this.layout = layout = new Layout(keys);
+			}
+			return layout;
+		}
+
+		@Override
+		public CharSequence selector(Model<?> model) {
+			StringBuilder builder = new StringBuilder();
+			for (String field : fields) {
+				builder.append(model.ialias(field)).append(", ");
+			}
+			for (String value : with.values()) {
+				builder.append(model.ialias(value)).append(", ");
+			}
+			return builder.delete(builder.length() - 2, builder.length());
+		}
+
+		@Override
+		public Map<String, Object> result(Object[] result) {
+			return new Row(layout(), result);
+		}
+
+		@Override
+		public void build(Model<?> model,
+				StringBuilder statement,
+				Map<String, Object> named,
+				List<Object> index)
+				throws NullPointerException, IllegalArgumentException {
+			group(fields).build(model, statement, named, index);
+		}
+
+		@Override
+		public boolean shape(StringBuilder key) {
+			key.append("AGG");
+			for (String field : fields) {
+				key.append('\0').append(field);
+			}
+			for (Map.Entry<String, String> entry : with.entrySet()) {
+				key.append('\0').append(entry.getKey())
+						.append('=').append(entry.getValue());
+			}
+			return true;
+		}
+
+		@Override
+		public void bind(Map<String, Object> named, List<Object> index) {}
+
+		/**
+		 * Class <code>Model.Aggregate.Layout</code> สำหรับเก็บชื่อ Column
+		 * และตำแหน่งของแต่ละ Column ในผลลัพธ์ของ {@link Aggregate}
+		 * ซึ่งคำนวณเพียงครั้งเดียวและใช้ร่วมกันทุก {@link Row}
+		 * (ชื่อ Column ที่ซ้ำกันจะเหลือเพียงชื่อเดียว
+		 * โดยใช้ค่าจากตำแหน่งสุดท้าย)
+		 *
+		 * @author เสือไฮ่
+		 */
+		protected static final class Layout {
+			/**
+			 * ชื่อ Column ที่ไม่ซ้ำกัน เรียงตามลำดับที่พบครั้งแรกในผลลัพธ์
+			 */
+			private final String[] keys;
+			/**
+			 * ตำแหน่งในผลลัพธ์ของแต่ละชื่อใน {@link #keys}
+			 */
+			private final int[] positions;
+			/**
+			 * ตำแหน่งของแต่ละ Column ในผลลัพธ์
+			 */
+			private final HashMap<String, Integer> index;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Layout} Object
+			 *
+			 * @param columns
+			 *            ชื่อ Column เรียงตามลำดับในผลลัพธ์
+			 */
+			private Layout(String[] columns) {
+				LinkedHashMap<String, Integer> index = new LinkedHashMap<>();
+				for (int i = 0; i < columns.length; i++) {
+					index.put(columns[i], i);
+				}
+				this.index = new HashMap<>(index);
+				this.keys = new String[index.size()];
+				this.positions = new int[index.size()];
+				int i = 0;
+				for (Map.Entry<String, Integer> entry : index.entrySet()) {
+					keys[i] = entry.getKey();
+					positions[i++] = entry.getValue();
+				}
+			}
+		}
+
+		/**
+		 * Class <code>Model.Aggregate.Row</code> เป็น {@link Map}
+		 * แบบอ่านได้อย่างเดียวที่ครอบผลลัพธ์ (<code>Object[]</code>)
+		 * ของ {@link Aggregate} แต่ละแถวไว้ โดยไม่คัดลอกค่าไปเก็บใหม่
+		 *
+		 * @author เสือไฮ่
+		 */
+		protected static final class Row extends AbstractMap<String, Object> {
+			/**
+			 * {@link Layout} ของผลลัพธ์
+			 */
+			private final Layout layout;
+			/**
+			 * ค่าในแต่ละ Column
+			 */
+			private final Object[] values;
+
+			/**
+			 * Constructor สำหรับสร้าง {@link Row} Object
+			 *
+			 * @param layout
+			 *            {@link #layout}
+			 * @param values
+			 *            {@link #values}
+			 */
+			private Row(Layout layout, Object[] values) {
+				this.layout = layout;
+				this.values = values;
+			}
+
+			@Override
+			public int size() {
+				return layout.keys.length;
+			}
+
+			@Override
+			public boolean containsKey(Object key) {
+				return layout.index.containsKey(key);
+			}
+
+			@Override
+			public Object get(Object key) {
+				Integer i = layout.index.get(key);
+				return i == null ? null : values[i];
+			}
+
+			@Override
+			public Set<Map.Entry<String, Object>> entrySet() {
+				return new AbstractSet<Map.Entry<String, Object>>() {
+					@Override
+					public int size() {
+						return layout.keys.length;
+					}
+
+					@Override
+					public Iterator<Map.Entry<String, Object>> iterator() {
+						return new Iterator<Map.Entry<String, Object>>() {
+							int i;
+
+							@Override
+							public boolean hasNext() {
+								return i < layout.keys.length;
+							}
+
+							@Override
+							public Map.Entry<String, Object> next() {
+								if (i >= layout.keys.length)
+									throw new NoSuchElementException();
+								int at = layout.positions[i];
+								return new SimpleImmutableEntry<>(
+										layout.keys[i++], values[at]);
+							}
+						};
+					}
+				};
+			}
+		}
+	}
+
+	/**
+	 * Class <code>Model.Page</code> สำหรับเก็บผลลัพธ์จากการแบ่งหน้าแบบ Keyset
+	 * (Seek) พร้อมกับ Key ของข้อมูลตัวสุดท้าย
+	 * สำหรับใช้เรียกหน้าถัดไปต่อจากหน้านี้
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 * @see Model#page(Model.Factory.Criteria, String[], Object[], int,
+	 *      Object...)
+	 */
+	public static class Page<E> {
+		/**
+		 * ข้อมูลในหน้านี้
+		 */
+		public final List<E> list;
+		/**
+		 * ค่าของ Field ที่ใช้เรียงลำดับของข้อมูลตัวสุดท้ายในหน้านี้
+		 * (Continuation Token) หรือ null หากเป็นหน้าสุดท้าย
+		 */
+		public final Object[] next;
+
+		/**
+		 * Constructor สำหรับสร้าง {@link Page} Object
+		 *
+		 * @param list
+		 *            {@link #list}
+		 * @param next
+		 *            {@link #next}
+		 */
+		protected Page(List<E> list, Object[] next) {
+			this.list = list;
+			this.next = next;
+		}
+
+		/**
+		 * ตรวจสอบว่ามีหน้าถัดไปหรือไม่
+		 *
+		 * @return true หากมีหน้าถัดไป
+		 */
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		/**
+		 * เรียกค่า Field ตามชื่อที่ระบุจาก Object ที่ต้องการ (ระบุ Field ลึกลงไป
+		 * ได้ด้วย "." เช่น "address.zip")
+		 *
+		 * @param object
+		 *            Object ที่ต้องการค่า Field
+		 * @param path
+		 *            ชื่อ Field ที่ต้องการ
+		 * @return ค่า Field ตามชื่อที่ระบุ
+		 * @throws IllegalArgumentException
+		 *             ไม่พบ Field ตามชื่อที่ระบุ
+		 */
+		protected static Object value(Object object, String path)
+				throws IllegalArgumentException {
+			for (String name : path.split("\\.")) {
+				if (object == null) return null;
+				Field found = null;
+				for (Class<?> c = object.getClass(); found == null
+						&& c != null; c = c.getSuperclass()) {
+					for (Field field : c.getDeclaredFields()) {
+						if (field.getName().equals(name)) {
+							found = field;
+							break;
+						}
+					}
+				}
+				if (found == null)
+					throw new IllegalArgumentException(
+							"Field \"" + path + "\" was not found.");
+				try {
+					object = Invocable.override(found).get(object);
+				} catch (IllegalAccessException e) {
+					throw new IllegalArgumentException(e);
+				}
+			}
+			return object;
 		}
 	}
 
 	/**
-	 * Class <code>Model.Aggregate</code> สำหรับใช้ในการประมวลผล Aggregate
-	 * Function
+	 * Class <code>Model.Clause</code> สำหรับสร้าง Expression
+	 * ที่ประกอบด้วยคำสั่งและ Field ต่อๆกัน เช่น "GROUP BY" หรือ "ORDER BY"
 	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
 	 * @author เสือไฮ่
+	 * @see Model#group(String...)
+	 * @see Model#order(String...)
 	 */
-	public static class Aggregate implements Model.Factory.Statement,
-		Model.Factory.Selector<Object[], Map<String, Object>> {
+	protected static class Clause implements Factory.Statement {
 		/**
-		 * Field สำหรับ สร้าง Expression "GROUP BY"
+		 * คำสั่งของ Expression
 		 */
-		private final String[] fields;
+		protected final String keyword;
 		/**
-		 * Aggregate Function
+		 * Field ใน Expression
 		 */
-		private final Map<String, String> with = new LinkedHashMap<>();
+		protected final String[] fields;
 
 		/**
-		 * Constructor สำหรับสร้าง {@link Aggregate} Object
+		 * Constructor สำหรับสร้าง {@link Clause} Object
 		 *
+		 * @param keyword
+		 *            {@link #keyword}
 		 * @param fields
 		 *            {@link #fields}
 		 * @throws NullPointerException
 		 *             <code>fields</code> เป็น null หรือ
-		 *             <code>fields.length</code> = 0 หรือ เป็น Empty String
+		 *             <code>fields.length</code> = 0
 		 */
-		public Aggregate(String... fields) throws NullPointerException {
-			if ((this.fields = fields) == null || fields.length == 0)
+		public Clause(String keyword, String... fields)
+				throws NullPointerException {
+			if (fields == null || fields.length == 0)
 				throw new NullPointerException();
-		}
-
-		/**
-		 * Constructor สำหรับสร้าง {@link Aggregate} Object
-		 *
-		 * @param fields
-		 *            {@link #fields}
-		 * @throws NullPointerException
-		 *             <code>fields</code> เป็น null หรือ
-		 *             <code>fields.length</code> = 0 หรือ เป็น Empty String
-		 * @see String#split(String)
-		 */
-		public Aggregate(String fields) throws NullPointerException {
-			this(fields.split(" *, *"));
-		}
-
-		/**
-		 * Aggregate Function
-		 *
-		 * @param key
-		 *            ชื่อใน Map Result
-		 * @param value
-		 *            คำสั่ง Aggregate Function
-		 * @return Object ตัวเอง
-		 */
-		public Aggregate with(String key, String value) {
-			with.put(key, value);
-			return this;
+			this.keyword = keyword;
+			this.fields = fields;
 		}
 
 		@Override
-		public CharSequence selector(Model<?> model) {
-			StringBuilder builder = new StringBuilder();
+		public void build(Model<?> model,
+				StringBuilder statement,
+				Map<String, Object> named,
+				List<Object> index) {
+			statement.append(' ').append(keyword).append(' ');
 			for (String field : fields) {
-				builder.append(model.ialias(field)).append(", ");
-			}
-			for (String value : with.values()) {
-				builder.append(model.ialias(value)).append(", ");
+				statement.append(model.ialias(field)).append(", ");
 			}
-			return builder.delete(builder.length() - 2, builder.length());
+			statement.delete(statement.length() - 2, statement.length());
 		}
 
 		@Override
-		public Map<String, Object> result(Object[] result) {
-			HashMap<String, Object> map = new HashMap<>();
-			for (int i = 0; i < fields.length; i++) {
-				map.put(fields[i], result[i]);
-			}
-			String[] keys = Cast.$.array(String.class, with.keySet());
-			for (int i = 0; i < keys.length; i++) {
-				map.put(keys[i], result[i + fields.length]);
+		public boolean shape(StringBuilder key) {
+			key.append(keyword);
+			for (String field : fields) {
+				key.append('\0').append(field);
 			}
-			return map;
+			return true;
 		}
 
 		@Override
-		public void build(Model<?> model,
-				StringBuilder statement,
-				Map<String, Object> named,
-				List<Object> index)
-				throws NullPointerException, IllegalArgumentException {
-			group(fields).build(model, statement, named, index);
-		}
+		public void bind(Map<String, Object> named, List<Object> index) {}
 	}
 
 	/**
@@ -2388,7 +6462,7 @@ public class Model<E> {
 		/**
 		 * คำสั่งระบุเงื่อนไข
 		 */
-		protected final StringBuilder criteria = new StringBuilder();
+		protected final CharSequence criteria;
 		/**
 		 * Parameter ใน {@link #criteria} รวมกับ Parameter อื่นๆ
 		 * เพิ่มเติมมาทีหลัง
@@ -2412,11 +6486,11 @@ public class Model<E> {
 			if (params != null && params.length > 0
 					&& params[0] instanceof Map) {
 				Map<String, Object> init = Cast.$(params[0]);
-				criteria.build(Model.this, this.criteria, init);
+				this.criteria = factory.build(Model.this, criteria, init, null);
 				this.params = params;
 			} else if (criteria.isNaming()) {
 				HashMap<String, Object> init = new HashMap<>();
-				criteria.build(Model.this, this.criteria, init);
+				this.criteria = factory.build(Model.this, criteria, init, null);
 				if (params == null || params.length == 0) {
 					this.params = new Object[] { init };
 				} else {
@@ -2425,7 +6499,7 @@ public class Model<E> {
 				}
 			} else {
 				ArrayList<Object> init = new ArrayList<>();
-				criteria.build(Model.this, this.criteria, init);
+				this.criteria = factory.build(Model.this, criteria, null, init);
 				if (params != null) {
 					init.addAll(Arrays.asList(params));
 				}
@@ -2456,7 +6530,7 @@ public class Model<E> {
 			if (init == null) {
 				init = new HashMap<>();
 			}
-			criteria.build(Model.this, this.criteria, init);
+			this.criteria = factory.build(Model.this, criteria, init, null);
 			if (ext == null || ext.length == 0) {
 				params = new Object[] { init };
 			} else {
@@ -2488,7 +6562,7 @@ public class Model<E> {
 			if (init == null) {
 				init = new ArrayList<>();
 			}
-			criteria.build(Model.this, this.criteria, init);
+			this.criteria = factory.build(Model.this, criteria, null, init);
 			if (ext == null || ext.length == 0) {
 				params = init.toArray();
 			} else {
@@ -2560,7 +6634,10 @@ public class Model<E> {
 				ArrayList<Object> init = new ArrayList<>();
 				this.values = init(values, init);
 				this.criteria = null;
-				this.params = new Object[] { init };
+				if (params != null) {
+					init.addAll(Arrays.asList(params));
+				}
+				this.params = init.toArray();
 				return;
 			} else if (criteria.isNaming()) {
 				HashMap<String, Object> init = new HashMap<>();
@@ -2605,7 +6682,7 @@ public class Model<E> {
 		 * @return คำสั่งกำหนดค่า
 		 */
 		protected CharSequence init(Pair.Series series, List<Object> params) {
-			StringBuilder builder = (StringBuilder) values;
+			StringBuilder builder = new StringBuilder();
 			for (Pair i : series) {
 				params.add(i.value);
 				builder.append(", ").append(ialias(i.field))
@@ -2615,6 +6692,98 @@ public class Model<E> {
 		}
 	}
 
+	/**
+	 * Class <code>Model.Updates</code> สำหรับรวบรวมคำสั่งปรับปรุงข้อมูล
+	 * ("UPDATE ... SET ... WHERE ...") หลายคำสั่ง
+	 * เพื่อปฏิบัติต่อฐานข้อมูลพร้อมกันใน {@link EntityTransaction} เดียว
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 * @see Model#updates()
+	 */
+	public class Updates {
+		/**
+		 * คำสั่งปรับปรุงข้อมูลที่สร้างแล้วตามลำดับที่เพิ่ม
+		 */
+		protected final ArrayList<Factory.Compiled> statements =
+				new ArrayList<>();
+
+		/**
+		 * เพิ่มคำสั่งปรับปรุงข้อมูล
+		 *
+		 * @param values
+		 *            ค่าที่ต้องปรับปรุงให้กับข้อมูล
+		 * @param criteria
+		 *            เงื่อนใขในการระบุข้อมูลที่ต้องการปรับปรุง
+		 * @param params
+		 *            Parameter ในคำสั่ง <code>values</code> และ
+		 *            <code>criteria</code> (รวมกัน)
+		 * @return Object ตัวเอง
+		 * @throws IllegalArgumentException
+		 *             คำสั่ง <code>values</code>, <code>criteria</code> หรือ
+		 *             <code>params</code> ไม่ถูกต้อง
+		 * @see Model#put(CharSequence, CharSequence, Object...)
+		 */
+		public Updates add(
+				CharSequence values, CharSequence criteria, Object... params)
+				throws IllegalArgumentException {
+			statements.add(factory.compile(
+					Model.this, "UPDATE", values, criteria, params));
+			return this;
+		}
+
+		/**
+		 * เพิ่มคำสั่งปรับปรุงข้อมูล
+		 *
+		 * @param values
+		 *            ค่าที่ต้องปรับปรุงให้กับข้อมูล
+		 * @param criteria
+		 *            เงื่อนใขในการระบุข้อมูลที่ต้องการปรับปรุง
+		 * @param params
+		 *            Parameter อื่นๆนอกเหนือจาก <code>values</code> และ
+		 *            <code>criteria</code>
+		 * @return Object ตัวเอง
+		 * @throws NullPointerException
+		 *             <code>values</code> เป็น null
+		 * @throws IllegalArgumentException
+		 *             คำสั่ง <code>values</code>, <code>criteria</code> หรือ
+		 *             <code>params</code> ไม่ถูกต้อง
+		 * @see Model#put(Model.Pair.Series, Model.Factory.Criteria,
+		 *      Object...)
+		 */
+		public Updates add(
+				Pair.Series values, Factory.Criteria criteria, Object... params)
+				throws NullPointerException, IllegalArgumentException {
+			ValueBuilder builder = new ValueBuilder(values, criteria, params);
+			return add(builder.values, builder.criteria, builder.params);
+		}
+
+		/**
+		 * @return จำนวนคำสั่งที่เพิ่มไว้
+		 */
+		public int size() {
+			return statements.size();
+		}
+
+		/**
+		 * ปฏิบัติตามคำสั่งปรับปรุงข้อมูลทั้งหมดตามลำดับที่เพิ่ม
+		 * ใน {@link EntityTransaction} เดียว (ยกเลิกทั้งหมดหากคำสั่งใดผิดพลาด)
+		 * แล้วล้างคำสั่งที่เพิ่มไว้
+		 *
+		 * @return จำนวนข้อมูลที่ถูกปรับปรุงของแต่ละคำสั่งตามลำดับ
+		 *         (หากไม่สามารถปรับปรุงข้อมูลได้ จะ return null)
+		 * @see Factory#updates(Model, List)
+		 */
+		public int[] execute() {
+			try {
+				return factory.updates(Model.this, statements);
+			} finally {
+				statements.clear();
+			}
+		}
+	}
+
 	/**
 	 * Function สำหรับสร้าง {@link Criteria} Object
 	 *
@@ -2637,15 +6806,7 @@ public class Model<E> {
 	 * @return ตัวกำหนด Expression "GROUP BY"
 	 */
 	public static Factory.Statement group(String... fields) {
-		if (fields == null || fields.length == 0)
-			throw new NullPointerException();
-		return (model, statement, named, index) -> {
-			statement.append(" GROUP BY ");
-			for (String field : fields) {
-				statement.append(model.ialias(field)).append(", ");
-			}
-			statement.delete(statement.length() - 2, statement.length());
-		};
+		return new Clause("GROUP BY", fields);
 	}
 
 	/**
@@ -2716,36 +6877,31 @@ public class Model<E> {
 				if (params.length == 1 && params[0] instanceof Map) {
 					named.putAll(Cast.$(params[0]));
 				} else {
+					Factory.Placeholders placeholders =
+							Factory.Placeholders.of(criteria);
 					try {
-						Matcher matcher = Pattern.compile(
-								":((?:\\w|\\d|[_$])+)").matcher(criteria);
-						for (int i = 0; matcher.find();) {
-							if (!named.containsKey(matcher.group(1))) {
-								named.put(matcher.group(1), params[i++]);
+						for (int p = 0, i = 0; p < placeholders.size(); p++) {
+							String name = placeholders.name(p);
+							if (name != null && !named.containsKey(name)) {
+								named.put(name, params[i++]);
 							}
 						}
 					} catch (ArrayIndexOutOfBoundsException e) {}
 					statement.append(criteria);
 				}
 			} else if (index != null) {
-				Matcher matcher = Pattern.compile("[?](\\d+)?")
-						.matcher(criteria);
-				StringBuffer buffer = new StringBuffer();
-				for (int i = 0; matcher.find();) {
-					try {
-						int at = Integer.parseInt(matcher.group(1));
-						if (index.size() + 1 == at) {
-							index.add(params[i++]);
-						} else if (index.size() < at) {
-							index.set(at, params[i++]);
-						}
-					} catch (NumberFormatException e) {
-						index.add(params[i++]);
-						matcher.appendReplacement(buffer, "?" + index.size());
+				int[] i = { 0 };
+				Factory.Placeholders.of(criteria).indexed(statement, at -> {
+					if (at < 0) {
+						index.add(params[i[0]++]);
+						return "?" + index.size();
+					} else if (index.size() + 1 == at) {
+						index.add(params[i[0]++]);
+					} else if (index.size() < at) {
+						index.set(at, params[i[0]++]);
 					}
-				}
-				statement.append(buffer.length() == 0
-						? criteria : matcher.appendTail(buffer));
+					return null;
+				});
 			} else throw new IllegalArgumentException();
 		};
 	}
@@ -2759,15 +6915,7 @@ public class Model<E> {
 	 * @return ตัวกำหนด Expression "ORDER BY"
 	 */
 	public static Factory.Statement order(String... fields) {
-		if (fields == null || fields.length == 0)
-			throw new NullPointerException();
-		return (model, statement, named, index) -> {
-			statement.append(" ORDER BY ");
-			for (String field : fields) {
-				statement.append(model.ialias(field)).append(", ");
-			}
-			statement.delete(statement.length() - 2, statement.length());
-		};
+		return new Clause("ORDER BY", fields);
 	}
 
 	/**
@@ -2804,6 +6952,51 @@ public class Model<E> {
 		return query -> query.setMaxResults(value);
 	}
 
+	/**
+	 * Function สำหรับสร้างตัวกำหนด Query Hint ของ Persistence Framework
+	 *
+	 * @param name
+	 *            ชื่อของ Hint
+	 * @param value
+	 *            ค่าของ Hint
+	 * @return ตัวกำหนด Query Hint
+	 * @see Query#setHint(String, Object)
+	 */
+	public static Factory.Injector hint(String name, Object value) {
+		return query -> query.setHint(name, value);
+	}
+
+	/**
+	 * Function สำหรับสร้างตัวกำหนดให้ค้นหาข้อมูลแบบอ่านอย่างเดียว
+	 * โดยข้อมูลที่ได้จะไม่ถูกลงทะเบียนใน Persistence Context
+	 * (ไม่มีการสร้างสำเนาเพื่อตรวจสอบการเปลี่ยนแปลง)
+	 * เหมาะสำหรับข้อมูลที่จะนำไปแสดงผลหรือแปลงเป็นข้อความเท่านั้น
+	 * <br />
+	 * (ใช้ Hint ของ EclipseLink, Persistence Framework อื่นจะไม่สนใจ Hint
+	 * นี้, ข้อมูลที่ได้อาจเป็น Object ตัวเดียวกับใน Shared Cache
+	 * จึงห้ามแก้ไขหรือนำไป {@link #put(Object...)})
+	 *
+	 * @param fetch
+	 *            จำนวนข้อมูลที่อ่านจากฐานข้อมูลในแต่ละครั้ง
+	 * @return ตัวกำหนดการค้นหาข้อมูลแบบอ่านอย่างเดียว
+	 * @see #hint(String, Object)
+	 */
+	public static Factory.Injector readOnly(int fetch) {
+		return query -> query.setHint("eclipselink.read-only", true)
+				.setHint("eclipselink.jdbc.fetch-size", fetch);
+	}
+
+	/**
+	 * Function สำหรับสร้างตัวกำหนดให้ค้นหาข้อมูลแบบอ่านอย่างเดียว
+	 * โดยอ่านข้อมูลจากฐานข้อมูลครั้งละ {@link #FETCH} รายการ
+	 *
+	 * @return ตัวกำหนดการค้นหาข้อมูลแบบอ่านอย่างเดียว
+	 * @see #readOnly(int)
+	 */
+	public static Factory.Injector readOnly() {
+		return readOnly(FETCH);
+	}
+
 	/**
 	 * สร้างคำสั่ง Sub Query Statement
 	 * 
@@ -2826,21 +7019,13 @@ public class Model<E> {
 				}
 				builder.append(statement);
 			} else if (index != null) {
-				Matcher matcher = Pattern.compile("\\?\\d*").matcher(statement);
-				StringBuffer buffer = new StringBuffer();
-				try {
-					Iterator<Object> i = Arrays.asList(params).iterator();
-					while (matcher.find()) {
-						index.add(i.next());
-						matcher.appendReplacement(buffer, "?" + index.size());
-					}
-					if (i.hasNext()) {
-						throw new IllegalArgumentException();
-					}
-				} catch (NoSuchElementException e) {
-					throw new IllegalArgumentException();
-				}
-				builder.append(matcher.appendTail(buffer));
+				Iterator<Object> i = Arrays.asList(params).iterator();
+				Factory.Placeholders.of(statement).indexed(builder, at -> {
+					if (!i.hasNext()) throw new IllegalArgumentException();
+					index.add(i.next());
+					return "?" + index.size();
+				});
+				if (i.hasNext()) throw new IllegalArgumentException();
 			}
 		};
 	}
@@ -2889,7 +7074,7 @@ public class Model<E> {
 						if (param instanceof Factory.Statement) {
 							((Model.Factory.Statement) param).build(
 									model, builder.append(", "), named, index);
-						} else if (param == null) {
+						} else if (param == null && !model.factory.stable()) {
 							builder.append(", NULL");
 						} else {
 							index.add(param);
@@ -2903,6 +7088,34 @@ public class Model<E> {
 		};
 	}
 
+	/**
+	 * จำนวนข้อมูลที่อ่านจากฐานข้อมูลในแต่ละครั้งโดยปริยายของ
+	 * {@link #stream(Model.Factory.Criteria, Object...)}
+	 */
+	public static final int FETCH = 500;
+	/**
+	 * จำนวนรูปแบบของคำสั่ง JPQL สูงสุดที่นับใน {@link #shapes()}
+	 */
+	public static final int SHAPES = 1024;
+	/**
+	 * {@link Factory.Selector Selector} สำหรับนับจำนวนข้อมูล ("COUNT(e)")
+	 * ที่ใช้ร่วมกันทุก {@link Model}
+	 *
+	 * @see #count(CharSequence, Object...)
+	 */
+	private static final Factory.Selector.That<Long> COUNT =
+			new Factory.Selector.That<Long>() {
+				@Override
+				public Class<Long> clazz() {
+					return Long.class;
+				}
+
+				@Override
+				public CharSequence selector(Model<?> model) {
+					return "COUNT(" + model.as + ")";
+				}
+			};
+
 	/**
 	 * Core ในการเชื่อมต่อฐานข้อมูลของ {@link Model}
 	 */
@@ -2920,6 +7133,29 @@ public class Model<E> {
 	 * ตัวรอรับเหตุการณ์ที่เกิดขึ้นใน {@link Model}
 	 */
 	public final Listener<Model<E>> listener;
+	/**
+	 * {@link Pattern} สำหรับตรวจสอบ Alias Name ใน Keyword
+	 * (สร้างเมื่อถูกเรียกใช้ครั้งแรก)
+	 *
+	 * @see Factory#hasAlias(Model, String)
+	 */
+	private volatile Pattern alias;
+	/**
+	 * ผลจากการเติม Alias Name ให้กับ Keyword ที่เคยเรียกใช้แล้ว (สูงสุด 256
+	 * Keyword)
+	 *
+	 * @see #ialias(String)
+	 */
+	private final ConcurrentHashMap<String,
+			CharSequence> ialias = new ConcurrentHashMap<>();
+	/**
+	 * {@link Aggregate} สำหรับนับจำนวนข้อมูลตาม Field ที่เคยเรียกใช้แล้ว
+	 * (สูงสุด 256 รูปแบบ)
+	 *
+	 * @see #counts(String, CharSequence, Object...)
+	 */
+	private final ConcurrentHashMap<String,
+			Aggregate> counters = new ConcurrentHashMap<>();
 
 	/**
 	 * สร้าง {@link Model} Object
@@ -3076,35 +7312,175 @@ public class Model<E> {
 	 * @see #Model(EntityManagerFactory, Class, String)
 	 * @see Alias
 	 */
-	public Model(EntityManagerFactory factory, Class<E> clazz)
-			throws NullPointerException {
-		this(factory, clazz, null);
+	public Model(EntityManagerFactory factory, Class<E> clazz)
+			throws NullPointerException {
+		this(factory, clazz, null);
+	}
+
+	/**
+	 * ทำหน้าที่ในการดักจับ {@link Throwable} ที่เกิดในกระบวนการทำงานของ
+	 * {@link Model} และ {@link Factory} แต่ไม่ได้ถูก throw ออกไป
+	 *
+	 * @param thrown
+	 *            {@link Throwable Exception} ที่เกิดขึ้น
+	 * @see #listener
+	 * @see Factory#monitor(Model.Factory.Monitor)
+	 */
+	protected void caught(Throwable thrown) {
+		listener.launch(thrown);
+		factory.caught(this, thrown);
+	}
+
+	/**
+	 * ตรวจสอบว่าใน Keyword สำหรับการอ้าง Field ใน Entity Class มีตัวแปร Alias
+	 * Name อยู่แล้วหรือไม่ หากไม่มี จะ Return ค่าที่เติม Alias Name
+	 * ให้เลยโดยอัตโนมัติ
+	 *
+	 * @param keyword
+	 *            Keyword ที่ต้องการตรวจสอบ
+	 * @return ค่า Keyword ที่มี Alias Name เป็นส่วนประกอบอยู่แล้ว
+	 */
+	public CharSequence ialias(String keyword) {
+		if (keyword == null) return as + ".null";
+		CharSequence aliased = ialias.get(keyword);
+		if (aliased == null) {
+			aliased = factory.hasAlias(this, keyword) ? keyword
+					: new StringBuilder(as).append('.').append(keyword)
+							.toString();
+			if (ialias.size() >= 256) {
+				ialias.clear();
+			}
+			ialias.put(keyword, aliased);
+		}
+		return aliased;
+	}
+
+	/**
+	 * นับจำนวนรูปแบบของคำสั่ง JPQL ที่แตกต่างกันที่ {@link Model} เคยสร้าง
+	 * (นับรวมทุก {@link Model} ของ {@link #clazz} และ {@link #as}
+	 * เดียวกันที่สร้างจาก {@link #factory}) ใช้ตรวจสอบว่า Query Cache ของ
+	 * Persistence Framework และ Statement Cache ของฐานข้อมูลถูกใช้ซ้ำได้
+	 * มากน้อยเพียงใด
+	 *
+	 * @return จำนวนรูปแบบของคำสั่ง (สูงสุด {@link #SHAPES})
+	 * @see Factory#stable(boolean)
+	 * @see Factory#shapes(Model)
+	 */
+	public int shapes() {
+		return factory.shapes(this);
+	}
+
+	/**
+	 * ประกาศรูปแบบคำสั่งค้นหาที่ใช้บ่อยของ {@link Model}
+	 * ซึ่งจะถูกเรียกใน {@link Factory#warmup(Class...)} (Sub Class
+	 * ประกาศคำสั่งด้วย {@link #warm(Model.Factory.Criteria, Object...)}
+	 * หรือ {@link #warm(Model.Factory.Selector, Model.Factory.Criteria,
+	 * Object...)})
+	 */
+	protected void warmup() {}
+
+	/**
+	 * ประกาศรูปแบบคำสั่งค้นหาข้อมูลที่ใช้บ่อย
+	 * ({@link #finds(Model.Factory.Criteria, Object...)})
+	 * เพื่อให้ถูกแปลงคำสั่งไว้ล่วงหน้าใน
+	 * {@link Factory#warmup(Class...)}
+	 *
+	 * @param criteria
+	 *            เงื่อนไขตัวอย่าง (null : ทั้งหมด)
+	 * @param params
+	 *            Parameter อื่นๆ เช่น {@link #order(String...)}
+	 * @return Object ตัวเอง
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 */
+	public Model<E> warm(Factory.Criteria criteria, Object... params)
+			throws IllegalArgumentException {
+		return warm((Factory.Selector<?, ?>) null, criteria, params);
+	}
+
+	/**
+	 * ประกาศรูปแบบคำสั่งค้นหาข้อมูลที่ใช้บ่อย
+	 * ({@link #finds(Model.Factory.Selector, Model.Factory.Criteria,
+	 * Object...)}) เพื่อให้ถูกแปลงคำสั่งไว้ล่วงหน้าใน
+	 * {@link Factory#warmup(Class...)}
+	 *
+	 * @param selector
+	 *            ตัวระบุข้อมูลจากการค้นหา เช่น {@link #agg(String...)} (null
+	 *            : {@link Entity} Object)
+	 * @param criteria
+	 *            เงื่อนไขตัวอย่าง (null : ทั้งหมด)
+	 * @param params
+	 *            Parameter อื่นๆ เช่น {@link #order(String...)}
+	 * @return Object ตัวเอง
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 */
+	public Model<E> warm(Factory.Selector<?, ?> selector,
+			Factory.Criteria criteria,
+			Object... params) throws IllegalArgumentException {
+		if (criteria == null) {
+			factory.warm(this, selector, null, params);
+		} else {
+			CriteriaBuilder builder = new CriteriaBuilder(criteria, params);
+			factory.warm(this, selector, builder.criteria, builder.params);
+		}
+		return this;
 	}
 
 	/**
-	 * ทำหน้าที่ในการดักจับ {@link Throwable} ที่เกิดในกระบวนการทำงานของ
-	 * {@link Model} และ {@link Factory} แต่ไม่ได้ถูก throw ออกไป
+	 * ลงทะเบียนรูปแบบคำสั่งค้นหาข้อมูล
+	 * ({@link #finds(Model.Factory.Criteria, Object...)}) เป็น Named Query
+	 * การค้นหาที่ได้คำสั่ง JPQL เดียวกันในภายหลังจะใช้ Named Query
+	 * และผูกเพียงค่า Parameter โดยไม่ต้องแปลงคำสั่ง JPQL ใหม่
 	 *
-	 * @param thrown
-	 *            {@link Throwable Exception} ที่เกิดขึ้น
-	 * @see #listener
+	 * @param criteria
+	 *            เงื่อนไขตัวอย่าง (null : ทั้งหมด)
+	 * @param params
+	 *            Parameter อื่นๆ เช่น {@link #order(String...)}
+	 * @return ชื่อของ Named Query
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see Factory#prepare(Model, Model.Factory.Selector, CharSequence,
+	 *      Object...)
 	 */
-	protected void caught(Throwable thrown) {
-		listener.launch(thrown);
+	public String prepare(Factory.Criteria criteria, Object... params)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		return prepare((Factory.Selector<?, ?>) null, criteria, params);
 	}
 
 	/**
-	 * ตรวจสอบว่าใน Keyword สำหรับการอ้าง Field ใน Entity Class มีตัวแปร Alias
-	 * Name อยู่แล้วหรือไม่ หากไม่มี จะ Return ค่าที่เติม Alias Name
-	 * ให้เลยโดยอัตโนมัติ
+	 * ลงทะเบียนรูปแบบคำสั่งค้นหาข้อมูล
+	 * ({@link #finds(Model.Factory.Selector, Model.Factory.Criteria,
+	 * Object...)}) เป็น Named Query
 	 *
-	 * @param keyword
-	 *            Keyword ที่ต้องการตรวจสอบ
-	 * @return ค่า Keyword ที่มี Alias Name เป็นส่วนประกอบอยู่แล้ว
+	 * @param selector
+	 *            ตัวระบุข้อมูลจากการค้นหา (null : {@link Entity} Object)
+	 * @param criteria
+	 *            เงื่อนไขตัวอย่าง (null : ทั้งหมด)
+	 * @param params
+	 *            Parameter อื่นๆ เช่น {@link #order(String...)}
+	 * @return ชื่อของ Named Query
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see #prepare(Model.Factory.Criteria, Object...)
 	 */
-	public CharSequence ialias(String keyword) {
-		return factory.hasAlias(this, keyword) ? keyword
-				: new StringBuilder(as).append('.').append(keyword);
+	public String prepare(Factory.Selector<?, ?> selector,
+			Factory.Criteria criteria,
+			Object... params)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		if (criteria == null)
+			return factory.prepare(this, selector, null, params);
+		CriteriaBuilder builder = new CriteriaBuilder(criteria, params);
+		return factory.prepare(
+				this, selector, builder.criteria, builder.params);
 	}
 
 	/**
@@ -3133,6 +7509,48 @@ public class Model<E> {
 		return factory.add(this, entities);
 	}
 
+	/**
+	 * เพิ่มข้อมูลจำนวนมากลงฐานข้อมูลภายใน Transaction เดียว
+	 * โดยแบ่งข้อมูลออกเป็นกลุ่มๆ ละ <code>size</code> รายการ
+	 *
+	 * @param entities
+	 *            ข้อมูลที่ต้องการเพิ่มลงฐาน
+	 * @param size
+	 *            จำนวนข้อมูลในแต่ละกลุ่ม
+	 * @return จำนวนข้อมูลที่เพิ่มได้ในแต่ละกลุ่มตามลำดับ
+	 *         (หากไม่สำเร็จทุกกลุ่มจะเป็น -1)
+	 * @throws IllegalArgumentException
+	 *             <code>size</code> น้อยกว่า 1
+	 * @see Factory#add(Model, Iterable, int)
+	 * @see Factory#batching(int)
+	 */
+	public int[] adds(Iterable<E> entities, int size)
+			throws IllegalArgumentException {
+		return factory.add(this, entities, size);
+	}
+
+	/**
+	 * เพิ่มข้อมูลจำนวนมากลงฐานข้อมูล โดยแบ่งข้อมูลออกเป็นกลุ่มๆ ละ
+	 * <code>size</code> รายการ
+	 *
+	 * @param entities
+	 *            ข้อมูลที่ต้องการเพิ่มลงฐาน
+	 * @param size
+	 *            จำนวนข้อมูลในแต่ละกลุ่ม
+	 * @param partial
+	 *            true : Commit ทีละกลุ่ม (กลุ่มที่สำเร็จแล้วจะยังคงอยู่
+	 *            แม้กลุ่มถัดไปไม่สำเร็จ), false : Commit ครั้งเดียวเมื่อจบ
+	 * @return จำนวนข้อมูลที่เพิ่มได้ในแต่ละกลุ่มตามลำดับ
+	 *         (กลุ่มที่เพิ่มไม่สำเร็จหรือถูกยกเลิกจะเป็น -1)
+	 * @throws IllegalArgumentException
+	 *             <code>size</code> น้อยกว่า 1
+	 * @see Factory#add(Model, Iterable, int, boolean)
+	 */
+	public int[] adds(Iterable<E> entities, int size, boolean partial)
+			throws IllegalArgumentException {
+		return factory.add(this, entities, size, partial);
+	}
+
 	/**
 	 * ปรับปรุงข้อมูลในฐานข้อมูล
 	 *
@@ -3208,6 +7626,21 @@ public class Model<E> {
 		}
 	}
 
+	/**
+	 * สร้าง {@link Updates} สำหรับรวบรวมคำสั่งปรับปรุงข้อมูลหลายคำสั่ง
+	 * แล้วปฏิบัติต่อฐานข้อมูลพร้อมกันใน {@link EntityTransaction} เดียว เช่น
+	 *
+	 * <pre>
+	 * int[] counts = model.updates().add(values, criteria).add(...).execute();
+	 * </pre>
+	 *
+	 * @return {@link Updates} Object ใหม่
+	 * @see #put(Model.Pair.Series, Model.Factory.Criteria, Object...)
+	 */
+	public Updates updates() {
+		return new Updates();
+	}
+
 	/**
 	 * ลบข้อมูลในฐานข้อมูล
 	 *
@@ -3238,6 +7671,22 @@ public class Model<E> {
 		return factory.del(this, entities);
 	}
 
+	/**
+	 * ลบข้อมูลจำนวนมากในฐานข้อมูลด้วยคำสั่ง "DELETE" ทีละกลุ่ม
+	 * (ไม่ผ่าน Lifecycle Callback ของ {@link Entity} หากต้องการให้ใช้
+	 * {@link #del(Iterable)} แทน)
+	 *
+	 * @param entities
+	 *            ข้อมูลที่ต้องการลบ (Entity Object หรือ ID)
+	 * @return จำนวนข้อมูลที่ถูกลบ <br />
+	 *         (หากไม่สามารถลบข้อมูลได้ จะ return -1)
+	 * @see Factory#dels(Model, Iterable)
+	 * @see Factory#chunk(int)
+	 */
+	public int dels(Iterable<Object> entities) {
+		return factory.dels(this, entities);
+	}
+
 	/**
 	 * ลบข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
 	 *
@@ -3423,178 +7872,606 @@ public class Model<E> {
 	}
 
 	/**
-	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 *
+	 * @param criteria
+	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 * @param params
+	 *            Parameter ใน <code>criteria</code>
+	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see Factory#jpql(Function, Class, CharSequence, Object...)
+	 * @see Factory#build(Model, StringBuilder, Object...)
+	 * @see TypedQuery#getResultList()
+	 */
+	public List<E> finds(CharSequence criteria, Object... params)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		return factory.finds(this, criteria, params);
+	}
+
+	/**
+	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 *
+	 * @param criteria
+	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 * @param params
+	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see #finds(CharSequence, Object...)
+	 * @see CriteriaBuilder
+	 */
+	public List<E> finds(Factory.Criteria criteria, Object... params)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		if (criteria == null) return factory.finds(this, null, params);
+		CriteriaBuilder builder = new CriteriaBuilder(criteria, params);
+		return factory.finds(this, builder.criteria, builder.params);
+	}
+
+	/**
+	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 *
+	 * @param criteria
+	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see #finds(Model.Factory.Criteria, Object...)
+	 * @see CriteriaBuilder
+	 */
+	public List<E> finds(Factory.Criteria criteria)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		return finds(criteria, (Object[]) null);
+	}
+
+	/**
+	 * ค้นหาข้อมูลในฐานข้อมูลที่มีค่า ณ Field ที่กำหนด ตรงกับค่าที่ระบบุ
+	 *
+	 * @param field
+	 *            Field ที่กำหนดว่าจะเปรียบเทียบ
+	 * @param value
+	 *            ค่าที่นำมาเปรียบเทียบกับค่าใน <code>field</code>
+	 * @param params
+	 *            Parameter อื่นๆ นอกเหนือจาก <code>field</code> และ
+	 *            <code>value</code>
+	 * @return ข้อมูลที่มีค่า ณ <code>field</code> ตรงกับ <code>value</code>
+	 *         ที่ระบบุ
+	 * @throws NullPointerException
+	 *             <code>field</code> เป็น null หรือ ""
+	 * @throws IllegalArgumentException
+	 *             <code>field</code>, <code>value</code> หรือ
+	 *             <code>params</code> ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see #finds(Model.Factory.Criteria, Object...)
+	 * @see Logic
+	 */
+	public List<E> finds(String field, Object value, Object... params)
+			throws NullPointerException,
+			IllegalArgumentException,
+			UnsupportedOperationException {
+		return finds(new Logic(field, value), params);
+	}
+
+	/**
+	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 *
+	 * @param selector
+	 *            ตัวระบุข้อมูลจากการค้นหา
+	 * @param criteria
+	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 * @param params
+	 *            Parameter ใน <code>criteria</code>
+	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see Factory#jpql(Function, Class, CharSequence, Object...)
+	 * @see Factory#build(Model, StringBuilder, Object...)
+	 * @see TypedQuery#getResultList()
+	 */
+	public <R> List<R> finds(Factory.Selector<?, R> selector,
+			CharSequence criteria,
+			Object... params) {
+		return factory.finds(this, selector, criteria, params);
+	}
+
+	/**
+	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 *
+	 * @param selector
+	 *            ตัวระบุข้อมูลจากการค้นหา
+	 * @param criteria
+	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 * @param params
+	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @throws IllegalArgumentException
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see #finds(CharSequence, Object...)
+	 * @see CriteriaBuilder
+	 */
+	public <R> List<R> finds(Factory.Selector<?, R> selector,
+			Factory.Criteria criteria,
+			Object... params) {
+		if (criteria == null)
+			return factory.finds(this, selector, null, params);
+		CriteriaBuilder builder = new CriteriaBuilder(criteria, params);
+		return factory.finds(this, selector, builder.criteria, builder.params);
+	}
+
+	/**
+	 * ค้นหาข้อมูลในฐานข้อมูลที่มีค่า ณ Field ที่กำหนด ตรงกับค่าที่ระบบุ
+	 *
+	 * @param selector
+	 *            ตัวระบุข้อมูลจากการค้นหา
+	 * @param field
+	 *            Field ที่กำหนดว่าจะเปรียบเทียบ
+	 * @param value
+	 *            ค่าที่นำมาเปรียบเทียบกับค่าใน <code>field</code>
+	 * @param params
+	 *            Parameter อื่นๆ นอกเหนือจาก <code>field</code> และ
+	 *            <code>value</code>
+	 * @return ข้อมูลที่มีค่า ณ <code>field</code> ตรงกับ <code>value</code>
+	 *         ที่ระบบุ
+	 * @throws NullPointerException
+	 *             <code>field</code> เป็น null หรือ ""
+	 * @throws IllegalArgumentException
+	 *             <code>field</code>, <code>value</code> หรือ
+	 *             <code>params</code> ไม่ถูกต้อง
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see #finds(Model.Factory.Criteria, Object...)
+	 * @see Logic
+	 */
+	public <R> List<R> finds(Factory.Selector<?, R> selector,
+			String field,
+			Object value,
+			Object... params) {
+		return finds(selector, new Logic(field, value), params);
+	}
+
+	/**
+	 * อ่านข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุเป็น {@link Stream}
+	 * โดยอ่านจากฐานข้อมูลครั้งละ <code>size</code> รายการ ({@link Stream}
+	 * ที่ได้ต้องปิดด้วย {@link Stream#close()} ทุกครั้ง)
 	 *
+	 * @param size
+	 *            จำนวนข้อมูลที่อ่านจากฐานข้อมูลในแต่ละครั้ง (Fetch Size)
 	 * @param criteria
 	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
 	 * @param params
 	 *            Parameter ใน <code>criteria</code>
-	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @return {@link Stream} ของข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
 	 * @throws IllegalArgumentException
-	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             <code>size</code> น้อยกว่า 1 หรือคำสั่ง
+	 *             <code>criteria</code> หรือ <code>params</code>
 	 *             ไม่ถูกต้อง
 	 * @throws UnsupportedOperationException
 	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-	 * @see Factory#jpql(Function, Class, CharSequence, Object...)
-	 * @see Factory#build(Model, StringBuilder, Object...)
-	 * @see TypedQuery#getResultList()
+	 * @see Factory#stream(Model, int, CharSequence, Object...)
 	 */
-	public List<E> finds(CharSequence criteria, Object... params)
+	public Stream<E> stream(int size, CharSequence criteria, Object... params)
 			throws IllegalArgumentException, UnsupportedOperationException {
-		return factory.finds(this, criteria, params);
+		return factory.stream(this, size, criteria, params);
 	}
 
 	/**
-	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 * อ่านข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุเป็น {@link Stream}
+	 * โดยอ่านจากฐานข้อมูลครั้งละ <code>size</code> รายการ ({@link Stream}
+	 * ที่ได้ต้องปิดด้วย {@link Stream#close()} ทุกครั้ง)
 	 *
+	 * @param size
+	 *            จำนวนข้อมูลที่อ่านจากฐานข้อมูลในแต่ละครั้ง (Fetch Size)
 	 * @param criteria
 	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
 	 * @param params
 	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
-	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @return {@link Stream} ของข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
 	 * @throws IllegalArgumentException
-	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             <code>size</code> น้อยกว่า 1 หรือคำสั่ง
+	 *             <code>criteria</code> หรือ <code>params</code>
 	 *             ไม่ถูกต้อง
 	 * @throws UnsupportedOperationException
 	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-	 * @see #finds(CharSequence, Object...)
+	 * @see #stream(int, CharSequence, Object...)
 	 * @see CriteriaBuilder
 	 */
-	public List<E> finds(Factory.Criteria criteria, Object... params)
+	public Stream<E> stream(
+			int size, Factory.Criteria criteria, Object... params)
 			throws IllegalArgumentException, UnsupportedOperationException {
-		if (criteria == null) return factory.finds(this, null, params);
+		if (criteria == null) return factory.stream(this, size, null, params);
 		CriteriaBuilder builder = new CriteriaBuilder(criteria, params);
-		return factory.finds(this, builder.criteria, builder.params);
+		return factory.stream(this, size, builder.criteria, builder.params);
 	}
 
 	/**
-	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 * อ่านข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุเป็น {@link Stream}
+	 * โดยอ่านจากฐานข้อมูลครั้งละ {@value #FETCH} รายการ ({@link Stream}
+	 * ที่ได้ต้องปิดด้วย {@link Stream#close()} ทุกครั้ง)
 	 *
 	 * @param criteria
 	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
-	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @param params
+	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+	 * @return {@link Stream} ของข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
 	 * @throws IllegalArgumentException
-	 *             คำสั่ง <code>criteria</code> ไม่ถูกต้อง
+	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
 	 * @throws UnsupportedOperationException
 	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-	 * @see #finds(Model.Factory.Criteria, Object...)
-	 * @see CriteriaBuilder
+	 * @see #stream(int, Model.Factory.Criteria, Object...)
 	 */
-	public List<E> finds(Factory.Criteria criteria)
+	public Stream<E> stream(Factory.Criteria criteria, Object... params)
 			throws IllegalArgumentException, UnsupportedOperationException {
-		return finds(criteria, (Object[]) null);
+		return stream(FETCH, criteria, params);
 	}
 
 	/**
-	 * ค้นหาข้อมูลในฐานข้อมูลที่มีค่า ณ Field ที่กำหนด ตรงกับค่าที่ระบบุ
+	 * อ่านข้อมูลทั้งหมดตามเงื่อนไขที่ระบุแบบขนาน
+	 * โดยแบ่งข้อมูลเป็นช่วงของ Primary Key ที่ไม่ซ้อนกัน ({@link #bounds})
+	 * แต่ละช่วงจะถูกอ่านเป็น {@link Stream} บน {@link EntityManager}
+	 * ของตัวเองผ่าน {@link Factory#async(Supplier)} (จำนวนช่วงที่อ่านพร้อมกัน
+	 * จำกัดด้วย {@link Factory#concurrency()})
+	 * <p>
+	 * <code>consumer</code> จะถูกเรียกพร้อมกันจากหลาย Thread
+	 * จึงต้องรองรับการทำงานแบบ Thread-safe และข้อมูลที่ได้เป็น Detached
+	 * <p>
+	 * หากถูกเรียกจากคำสั่งใน {@link Factory#async(Supplier)} แต่ละช่วงจะถูก
+	 * อ่านตามลำดับใน Thread ที่เรียก เพื่อไม่ให้รอสิทธิ์จาก
+	 * {@link Factory#concurrency()} ขณะที่ถือสิทธิ์อยู่
+	 * </p>
 	 *
-	 * @param field
-	 *            Field ที่กำหนดว่าจะเปรียบเทียบ
-	 * @param value
-	 *            ค่าที่นำมาเปรียบเทียบกับค่าใน <code>field</code>
+	 * @param criteria
+	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการอ่าน (null : ทั้งหมด)
+	 * @param partitions
+	 *            จำนวนช่วงที่ต้องการแบ่ง
+	 * @param consumer
+	 *            Functional Interface ที่รับข้อมูลแต่ละตัว
 	 * @param params
-	 *            Parameter อื่นๆ นอกเหนือจาก <code>field</code> และ
-	 *            <code>value</code>
-	 * @return ข้อมูลที่มีค่า ณ <code>field</code> ตรงกับ <code>value</code>
-	 *         ที่ระบบุ
+	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+	 * @return จำนวนข้อมูลที่อ่านได้ หรือ -1 หากเกิดข้อผิดพลาด
 	 * @throws NullPointerException
-	 *             <code>field</code> เป็น null หรือ ""
+	 *             <code>consumer</code> เป็น null
 	 * @throws IllegalArgumentException
-	 *             <code>field</code>, <code>value</code> หรือ
-	 *             <code>params</code> ไม่ถูกต้อง
+	 *             <code>partitions</code> น้อยกว่า 1 หรือคำสั่ง
+	 *             <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
 	 * @throws UnsupportedOperationException
 	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-	 * @see #finds(Model.Factory.Criteria, Object...)
-	 * @see Logic
+	 * @see #bounds(Model.Factory.Criteria, int, Object...)
+	 * @see Factory#cursor(Model, int, Model.Factory.Compiled)
 	 */
-	public List<E> finds(String field, Object value, Object... params)
+	public long parallelScan(Factory.Criteria criteria,
+			int partitions,
+			Consumer<? super E> consumer,
+			Object... params)
 			throws NullPointerException,
 			IllegalArgumentException,
 			UnsupportedOperationException {
-		return finds(new Logic(field, value), params);
+		if (consumer == null) throw new NullPointerException();
+		else if (partitions < 1)
+			throw new IllegalArgumentException(
+					"Partitions must be greater than 0.");
+		Object[] bounds = bounds(criteria, partitions, params);
+		if (bounds == null) return -1;
+		String id = factory.pk(clazz).getName();
+		boolean naming = criteria != null && criteria.isNaming();
+		LongAdder rows = new LongAdder();
+		CompletableFuture<?>[] scans = new CompletableFuture<?>[bounds.length + 1];
+		for (int i = 0; i < scans.length; i++) {
+			Criteria range = criteria == null
+					? new Criteria() : new Criteria(criteria);
+			if (i > 0) {
+				range.and(id, ">=", bounds[i - 1], naming ? "scanFrom" : null);
+			}
+			if (i < bounds.length) {
+				range.and(id, "<", bounds[i], naming ? "scanTo" : null);
+			}
+			CriteriaBuilder builder = new CriteriaBuilder(range, params);
+			Factory.Compiled compiled = factory.compile(
+					this, "SELECT", null, builder.criteria, builder.params);
+			scans[i] = factory.async(() -> {
+				try (Stream<E> stream = factory.cursor(this, FETCH, compiled)) {
+					stream.forEach(entity -> {
+						consumer.accept(entity);
+						rows.increment();
+					});
+				} catch (RuntimeException | Error e) {
+					throw e;
+				} catch (Throwable e) {
+					throw new CompletionException(e);
+				}
+				return null;
+			});
+		}
+		try {
+			CompletableFuture.allOf(scans).join();
+			return rows.sum();
+		} catch (CompletionException e) {
+			caught(e.getCause() == null ? e : e.getCause());
+			return -1;
+		}
 	}
 
 	/**
-	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 * อ่านข้อมูลทั้งหมดแบบขนาน
+	 *
+	 * @param partitions
+	 *            จำนวนช่วงที่ต้องการแบ่ง
+	 * @param consumer
+	 *            Functional Interface ที่รับข้อมูลแต่ละตัว
+	 * @return จำนวนข้อมูลที่อ่านได้ หรือ -1 หากเกิดข้อผิดพลาด
+	 * @throws NullPointerException
+	 *             <code>consumer</code> เป็น null
+	 * @throws IllegalArgumentException
+	 *             <code>partitions</code> น้อยกว่า 1
+	 * @throws UnsupportedOperationException
+	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
+	 * @see #parallelScan(Model.Factory.Criteria, int, Consumer, Object...)
+	 */
+	public long parallelScan(int partitions, Consumer<? super E> consumer)
+			throws NullPointerException,
+			IllegalArgumentException,
+			UnsupportedOperationException {
+		return parallelScan(null, partitions, consumer);
+	}
+
+	/**
+	 * หาค่า Primary Key ที่ใช้แบ่งข้อมูลตามเงื่อนไขที่ระบุออกเป็นช่วงๆ
+	 * <p>
+	 * Primary Key ที่เป็นจำนวนเต็มจะแบ่งช่วงเท่าๆกันระหว่างค่า MIN และ MAX
+	 * ส่วน Primary Key ประเภทอื่นจะใช้ค่า ณ ตำแหน่ง Quantile
+	 * ของข้อมูลที่เรียงตาม Primary Key ({@link EmbeddedId} จะไม่ถูกแบ่ง)
 	 *
-	 * @param selector
-	 *            ตัวระบุข้อมูลจากการค้นหา
 	 * @param criteria
-	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 *            เงื่อนไขในการระบุข้อมูล (null : ทั้งหมด)
+	 * @param partitions
+	 *            จำนวนช่วงที่ต้องการแบ่ง
 	 * @param params
-	 *            Parameter ใน <code>criteria</code>
-	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+	 * @return ค่าที่ใช้แบ่งช่วงเรียงจากน้อยไปมาก (ไม่เกิน
+	 *         <code>partitions</code> - 1 ค่า) หรือ null หากเกิดข้อผิดพลาด
 	 * @throws IllegalArgumentException
 	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
 	 *             ไม่ถูกต้อง
 	 * @throws UnsupportedOperationException
 	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-	 * @see Factory#jpql(Function, Class, CharSequence, Object...)
-	 * @see Factory#build(Model, StringBuilder, Object...)
-	 * @see TypedQuery#getResultList()
 	 */
-	public <R> List<R> finds(Factory.Selector<?, R> selector,
-			CharSequence criteria,
-			Object... params) {
-		return factory.finds(this, selector, criteria, params);
+	protected Object[] bounds(
+			Factory.Criteria criteria, int partitions, Object... params)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		Field pk = factory.pk(clazz);
+		if (partitions < 2 || pk.getAnnotation(EmbeddedId.class) != null)
+			return new Object[0];
+		String id = as + "." + pk.getName();
+		Class<?> type = factory.primary(clazz).type;
+		CharSequence where = null;
+		Object[] args = params;
+		if (criteria != null) {
+			CriteriaBuilder builder = new CriteriaBuilder(criteria, params);
+			where = builder.criteria;
+			args = builder.params;
+		}
+		LinkedHashSet<Object> bounds = new LinkedHashSet<>();
+		if (type == Long.class || type == Integer.class
+				|| type == Short.class || type == Byte.class) {
+			Object[] range = factory.find(this,
+					new Factory.Selector.That<Object[]>() {
+						@Override
+						public Class<Object[]> clazz() {
+							return Object[].class;
+						}
+
+						@Override
+						public CharSequence selector(Model<?> model) {
+							return "MIN(" + id + "), MAX(" + id + ")";
+						}
+					}, where, args);
+			if (range == null) return null;
+			else if (range[0] == null) return new Object[0];
+			BigInteger min = BigInteger.valueOf(((Number) range[0]).longValue());
+			BigInteger span = BigInteger.valueOf(((Number) range[1])
+					.longValue()).subtract(min).add(BigInteger.ONE);
+			for (int i = 1; i < partitions; i++) {
+				long bound = min.add(span.multiply(BigInteger.valueOf(i))
+						.divide(BigInteger.valueOf(partitions))).longValue();
+				bounds.add(type == Long.class ? Long.valueOf(bound)
+						: type == Integer.class ? Integer.valueOf((int) bound)
+						: type == Short.class ? Short.valueOf((short) bound)
+						: Byte.valueOf((byte) bound));
+			}
+		} else {
+			Long count = factory.find(this, COUNT, where, args);
+			if (count == null) return null;
+			Factory.Selector.That<Object> selector =
+					new Factory.Selector.That<Object>() {
+						@Override
+						public Class<Object> clazz() {
+							return Cast.$(type);
+						}
+
+						@Override
+						public CharSequence selector(Model<?> model) {
+							return id;
+						}
+					};
+			for (int i = 1; i < partitions; i++) {
+				long at = count * i / partitions;
+				if (at == 0) continue;
+				Object[] seek = Cast.$.array(args == null
+						? new Object[0] : args, (args == null
+						? 0 : args.length) + 3);
+				seek[seek.length - 3] = order(pk.getName());
+				seek[seek.length - 2] = offset((int) at);
+				seek[seek.length - 1] = limit(1);
+				Object bound = factory.find(this, selector, where, seek);
+				if (bound == null) return null;
+				bounds.add(bound);
+			}
+		}
+		return bounds.toArray();
 	}
 
 	/**
-	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุแบบแบ่งหน้าด้วย Keyset (Seek)
+	 * <p>
+	 * แทนการทดผลลัพธ์ด้วย {@link #offset(int)} ซึ่งฐานข้อมูลต้องอ่านข้าม
+	 * ข้อมูลก่อนหน้าทั้งหมด จะเพิ่มเงื่อนไข "(order) &gt; (after)"
+	 * ต่อจาก <code>criteria</code> โดยอัตโนมัติ เช่น
+	 * <code>(a &gt; ?) OR (a = ? AND b &gt; ?)
+	 * OR (a = ? AND b = ? AND id &gt; ?)</code>
+	 * ทำให้ทุกหน้ามีต้นทุนเท่ากัน โดยใช้ Primary Key เป็นตัวตัดสิน
+	 * ลำดับสุดท้ายเสมอ (หากไม่ได้ระบุไว้ใน <code>order</code>)
+	 * <p>
+	 * Field ใน <code>order</code> ต้องเป็น Field ของ {@link #clazz}
+	 * ที่ไม่มีค่าเป็น null และต้องไม่ระบุ {@link #order(String...)}
+	 * ใน <code>params</code> อีก<br />
+	 * (Parameter ของเงื่อนไข Seek จะเป็นแบบตั้งชื่อ "seek0", "seek1", ...
+	 * หาก <code>criteria</code> ใช้ Parameter แบบตั้งชื่อ
+	 * และเป็นแบบลำดับต่อจาก Parameter ใน <code>criteria</code>
+	 * หากไม่ใช่)
 	 *
-	 * @param selector
-	 *            ตัวระบุข้อมูลจากการค้นหา
 	 * @param criteria
 	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 * @param order
+	 *            Field ที่ใช้เรียงลำดับและวิธีการเรียง (ASC, DESC)
+	 * @param after
+	 *            {@link Page#next} ของหน้าก่อนหน้า (null สำหรับหน้าแรก)
+	 * @param size
+	 *            จำนวนข้อมูลในแต่ละหน้า
 	 * @param params
 	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
-	 * @return ข้อมูลในฐานข้อมูล ณ เงื่อนไขที่ระบุ
+	 * @return ข้อมูลในหน้าที่ต้องการ หรือ null
+	 *         หากเกิดข้อผิดพลาดในการค้นหา
 	 * @throws IllegalArgumentException
-	 *             คำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             <code>size</code> น้อยกว่า 1, จำนวนค่าใน
+	 *             <code>after</code> ไม่ตรงกับ Field ที่ใช้เรียงลำดับ,
+	 *             <code>params</code> มี {@link #order(String...)}
+	 *             หรือคำสั่ง <code>criteria</code> หรือ <code>params</code>
 	 *             ไม่ถูกต้อง
 	 * @throws UnsupportedOperationException
 	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-	 * @see #finds(CharSequence, Object...)
-	 * @see CriteriaBuilder
+	 * @see #finds(Model.Factory.Criteria, Object...)
+	 * @see Factory#pk(Class)
 	 */
-	public <R> List<R> finds(Factory.Selector<?, R> selector,
-			Factory.Criteria criteria,
-			Object... params) {
-		if (criteria == null)
-			return factory.finds(this, selector, null, params);
-		CriteriaBuilder builder = new CriteriaBuilder(criteria, params);
-		return factory.finds(this, selector, builder.criteria, builder.params);
+	public Page<E> page(Factory.Criteria criteria,
+			String[] order,
+			Object[] after,
+			int size,
+			Object... params)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		if (size < 1)
+			throw new IllegalArgumentException(
+					"Page size must be greater than 0.");
+		for (Object param : params == null ? new Object[0] : params) {
+			if (param instanceof Clause
+					&& "ORDER BY".equals(((Clause) param).keyword))
+				throw new IllegalArgumentException(
+						"Page order must be given by order, not params.");
+		}
+		String id = factory.pk(clazz).getName();
+		ArrayList<String> fields = new ArrayList<>();
+		ArrayList<String> sorts = new ArrayList<>();
+		boolean tiebreak = true;
+		for (String sort : order == null ? new String[0] : order) {
+			String[] split = sort.trim().split("\\s+");
+			String field = split[0].startsWith(as + ".")
+					? split[0].substring(as.length() + 1) : split[0];
+			fields.add(field);
+			sorts.add(split.length > 1 && split[1].equalsIgnoreCase("DESC")
+					? field + " DESC" : field);
+			tiebreak &= !field.equals(id);
+		}
+		if (tiebreak) {
+			fields.add(id);
+			sorts.add(id);
+		}
+		if (after != null) {
+			if (after.length != fields.size())
+				throw new IllegalArgumentException(
+						"Continuation token does not match the order.");
+			boolean naming = criteria != null && criteria.isNaming();
+			Criteria seek = new Criteria();
+			for (int i = 0; i < fields.size(); i++) {
+				Criteria term = new Criteria();
+				for (int j = 0; j < i; j++) {
+					term.and(fields.get(j), "=", after[j],
+							naming ? "seek" + j : null);
+				}
+				term.and(fields.get(i), sorts.get(i).endsWith(" DESC")
+						? "<" : ">", after[i], naming ? "seek" + i : null);
+				seek.or(term);
+			}
+			criteria = criteria == null
+					? seek : new Criteria(criteria).and(seek);
+		}
+		int length = params == null ? 0 : params.length;
+		params = params == null
+				? new Object[2] : Cast.$.array(params, length + 2);
+		params[length] = order(sorts.toArray(new String[sorts.size()]));
+		params[length + 1] = limit(size + 1);
+		List<E> list = finds(criteria, params);
+		if (list == null) return null;
+		else if (list.size() <= size) return new Page<>(list, null);
+		list = new ArrayList<>(list.subList(0, size));
+		E last = list.get(size - 1);
+		Object[] next = new Object[fields.size()];
+		for (int i = 0; i < next.length; i++) {
+			next[i] = Page.value(last, fields.get(i));
+		}
+		return new Page<>(list, next);
 	}
 
 	/**
-	 * ค้นหาข้อมูลในฐานข้อมูลที่มีค่า ณ Field ที่กำหนด ตรงกับค่าที่ระบบุ
+	 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุแบบแบ่งหน้าด้วย Keyset (Seek)
 	 *
-	 * @param selector
-	 *            ตัวระบุข้อมูลจากการค้นหา
-	 * @param field
-	 *            Field ที่กำหนดว่าจะเปรียบเทียบ
-	 * @param value
-	 *            ค่าที่นำมาเปรียบเทียบกับค่าใน <code>field</code>
+	 * @param criteria
+	 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+	 * @param order
+	 *            Field ที่ใช้เรียงลำดับและวิธีการเรียง (ASC, DESC)
+	 *            คั่นด้วย ","
+	 * @param after
+	 *            {@link Page#next} ของหน้าก่อนหน้า (null สำหรับหน้าแรก)
+	 * @param size
+	 *            จำนวนข้อมูลในแต่ละหน้า
 	 * @param params
-	 *            Parameter อื่นๆ นอกเหนือจาก <code>field</code> และ
-	 *            <code>value</code>
-	 * @return ข้อมูลที่มีค่า ณ <code>field</code> ตรงกับ <code>value</code>
-	 *         ที่ระบบุ
-	 * @throws NullPointerException
-	 *             <code>field</code> เป็น null หรือ ""
+	 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+	 * @return ข้อมูลในหน้าที่ต้องการ หรือ null
+	 *         หากเกิดข้อผิดพลาดในการค้นหา
 	 * @throws IllegalArgumentException
-	 *             <code>field</code>, <code>value</code> หรือ
-	 *             <code>params</code> ไม่ถูกต้อง
+	 *             <code>size</code> น้อยกว่า 1, จำนวนค่าใน
+	 *             <code>after</code> ไม่ตรงกับ Field ที่ใช้เรียงลำดับ,
+	 *             <code>params</code> มี {@link #order(String...)}
+	 *             หรือคำสั่ง <code>criteria</code> หรือ <code>params</code>
+	 *             ไม่ถูกต้อง
 	 * @throws UnsupportedOperationException
 	 *             ไม่สามารถเชื่อมต่อฐานข้อมูลได้
-	 * @see #finds(Model.Factory.Criteria, Object...)
-	 * @see Logic
+	 * @see #page(Model.Factory.Criteria, String[], Object[], int, Object...)
 	 */
-	public <R> List<R> finds(Factory.Selector<?, R> selector,
-			String field,
-			Object value,
-			Object... params) {
-		return finds(selector, new Logic(field, value), params);
+	public Page<E> page(Factory.Criteria criteria,
+			String order,
+			Object[] after,
+			int size,
+			Object... params)
+			throws IllegalArgumentException, UnsupportedOperationException {
+		return page(criteria, order == null || order.trim().isEmpty()
+				? null : order.trim().split(" *, *"), after, size, params);
 	}
 
 	/**
@@ -3616,9 +8493,7 @@ public class Model<E> {
 	 */
 	public long count(CharSequence criteria, Object... params)
 			throws IllegalArgumentException, UnsupportedOperationException {
-		return factory.find(this, (Factory.Selector.That<Long>) model -> {
-			return "COUNT(" + model.as + ")";
-		}, criteria, params);
+		return factory.find(this, COUNT, criteria, params);
 	}
 
 	/**
@@ -3707,7 +8582,14 @@ public class Model<E> {
 	public List<Map<String, Object>> counts(
 			String fields, CharSequence criteria, Object... params)
 			throws IllegalArgumentException, UnsupportedOperationException {
-		Aggregate selector = agg(fields).with(null, "COUNT(" + as + ")");
+		Aggregate selector = counters.get(fields);
+		if (selector == null) {
+			selector = agg(fields).with(null, "COUNT(" + as + ")");
+			if (counters.size() >= 256) {
+				counters.clear();
+			}
+			counters.put(fields, selector);
+		}
 		return factory.finds(this, selector, criteria, params);
 	}
 
@@ -3805,4 +8687,191 @@ public class Model<E> {
 	public boolean clear(Object... id) {
 		return factory.clear(this, id);
 	}
+
+	/**
+	 * เรียกตัวประมวลผลคำสั่งของ {@link Model} แบบ Asynchronous
+	 *
+	 * @return ตัวประมวลผลคำสั่งแบบ Asynchronous
+	 * @see Factory#async(Supplier)
+	 */
+	public Async async() {
+		return new Async();
+	}
+
+	/**
+	 * Class <code>Model.Async</code> สำหรับประมวลผลคำสั่งของ {@link Model}
+	 * แบบ Asynchronous ผ่าน {@link Factory#async(Supplier)} โดยแต่ละคำสั่ง
+	 * จะได้ {@link EntityManager} ของตัวเอง และผลลัพธ์จะเหมือนกับการเรียก
+	 * คำสั่งเดียวกันของ {@link Model} โดยตรง
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 */
+	public class Async {
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูล ณ Id ที่ระบุ
+		 *
+		 * @param id
+		 *            Id ของข้อมูลที่ต้องการค้นหา
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#find(Object)
+		 */
+		public CompletableFuture<E> find(Object id) {
+			return factory.async(() -> Model.this.find(id));
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#find(CharSequence, Object...)
+		 */
+		public CompletableFuture<E> find(
+				CharSequence criteria, Object... params) {
+			return factory.async(() -> Model.this.find(criteria, params));
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#find(Model.Factory.Criteria, Object...)
+		 */
+		public CompletableFuture<E> find(
+				Factory.Criteria criteria, Object... params) {
+			return factory.async(() -> Model.this.find(criteria, params));
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูล ณ Id ที่ระบุ
+		 *
+		 * @param id
+		 *            Id ของข้อมูลที่ต้องการค้นหา
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#finds(Object...)
+		 */
+		public CompletableFuture<List<E>> finds(Object... id) {
+			return factory.async(() -> Model.this.finds(id));
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#finds(CharSequence, Object...)
+		 */
+		public CompletableFuture<List<E>> finds(
+				CharSequence criteria, Object... params) {
+			return factory.async(() -> Model.this.finds(criteria, params));
+		}
+
+		/**
+		 * ค้นหาข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการค้นหา
+		 * @param params
+		 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#finds(Model.Factory.Criteria, Object...)
+		 */
+		public CompletableFuture<List<E>> finds(
+				Factory.Criteria criteria, Object... params) {
+			return factory.async(() -> Model.this.finds(criteria, params));
+		}
+
+		/**
+		 * นับจำนวนข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการนับ
+		 * @param params
+		 *            Parameter ใน <code>criteria</code>
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#count(CharSequence, Object...)
+		 */
+		public CompletableFuture<Long> count(
+				CharSequence criteria, Object... params) {
+			return factory.async(() -> Model.this.count(criteria, params));
+		}
+
+		/**
+		 * นับจำนวนข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการนับ
+		 * @param params
+		 *            Parameter อื่นๆ นอกเหนือจาก Parameter ใน <code>criteria</code>
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#count(Model.Factory.Criteria, Object...)
+		 */
+		public CompletableFuture<Long> count(
+				Factory.Criteria criteria, Object... params) {
+			return factory.async(() -> Model.this.count(criteria, params));
+		}
+
+		/**
+		 * เพิ่มข้อมูลลงฐานข้อมูล
+		 *
+		 * @param entities
+		 *            ข้อมูลที่ต้องการเพิ่ม
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#add(Iterable)
+		 */
+		public CompletableFuture<Boolean> add(Iterable<E> entities) {
+			return factory.async(() -> Model.this.add(entities));
+		}
+
+		/**
+		 * ปรับปรุงข้อมูลในฐานข้อมูล
+		 *
+		 * @param entities
+		 *            ข้อมูลที่ต้องการปรับปรุง
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#put(Iterable)
+		 */
+		public CompletableFuture<Boolean> put(Iterable<E> entities) {
+			return factory.async(() -> Model.this.put(entities));
+		}
+
+		/**
+		 * ลบข้อมูลในฐานข้อมูล
+		 *
+		 * @param entities
+		 *            ข้อมูลที่ต้องการลบ (Entity Object หรือ ID)
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#del(Iterable)
+		 */
+		public CompletableFuture<Boolean> del(Iterable<Object> entities) {
+			return factory.async(() -> Model.this.del(entities));
+		}
+
+		/**
+		 * ลบข้อมูลในฐานข้อมูลตามเงื่อนไขที่ระบุ
+		 *
+		 * @param criteria
+		 *            เงื่อนไขในการระบุข้อมูลที่ต้องการลบข้อมูล
+		 * @param params
+		 *            Parameter อื่นๆนอกเหนือจาก <code>criteria</code>
+		 * @return {@link CompletableFuture} ของผลลัพธ์
+		 * @see Model#del(Model.Factory.Criteria, Object...)
+		 */
+		public CompletableFuture<Integer> del(
+				Factory.Criteria criteria, Object... params) {
+			return factory.async(() -> Model.this.del(criteria, params));
+		}
+	}
 }
\ No newline at end of file
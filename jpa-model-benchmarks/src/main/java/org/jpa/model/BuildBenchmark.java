@@ -0,0 +1,231 @@
+package org.jpa.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Class <code>BuildBenchmark</code>
+ * สำหรับวัดประสิทธิภาพการสร้างคำสั่ง JPQL และการผูก Parameter
+ * โดยไม่มีการเข้าถึงฐานข้อมูล
+ *
+ * @since JDK 1.8, jpa-model 2.0
+ * @version 1.0.0
+ * @author เสือไฮ่
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BuildBenchmark {
+	/**
+	 * จำนวน {@link Sample} Object ในแต่ละครั้งของ {@link #id(Blackhole)}
+	 */
+	public static final int IDS = 100_000;
+	/**
+	 * จำนวนแถวผลลัพธ์ในแต่ละครั้งของ {@link #aggregateResults(Blackhole)}
+	 */
+	public static final int AGGREGATES = 1_000_000;
+	private Model.Factory.UnitName factory;
+	private Model<Sample> model;
+	private EntityManager manager;
+	/**
+	 * เงื่อนไขแบบลำดับ Parameter
+	 */
+	private Model.Criteria indexed;
+	/**
+	 * เงื่อนไขแบบตั้งชื่อ Parameter
+	 */
+	private Model.Criteria named;
+	/**
+	 * เงื่อนไข 30 ข้อที่มี Parameter อยู่ใน Condition แบบลำดับ
+	 */
+	private Model.Criteria wideIndexed;
+	/**
+	 * เงื่อนไข 30 ข้อที่มี Parameter อยู่ใน Condition แบบตั้งชื่อ
+	 */
+	private Model.Criteria wideNamed;
+	private Model.Factory.Statement having;
+	private Model.Factory.Statement sub;
+	private Model.Aggregate aggregate;
+	private Object[] row;
+	private Object[][] rows;
+	private Query indexedQuery;
+	private Query namedQuery;
+	private Map<String, Object> namedParams;
+	private Sample[] samples;
+
+	@Setup
+	public void setup() {
+		factory = new Model.Factory.UnitName("benchmark");
+		model = factory.create(Sample.class);
+		manager = factory.factory(f -> f.createEntityManager());
+		indexed = new Model.Criteria("qty", ">", 10)
+				.and("grp", "g1")
+				.and("name", "n1%");
+		named = new Model.Criteria("qty", ">", 10, "qty")
+				.and("grp", (Object) "g1", "grp")
+				.and("name", (Object) "n1%", "name");
+		wideIndexed = new Model.Criteria();
+		wideNamed = new Model.Criteria();
+		for (int i = 0; i < 30; i++) {
+			wideIndexed.and("qty", "BETWEEN " + i + " AND ?", i + 10);
+			wideNamed.and("qty", "BETWEEN " + i + " AND :q" + i, i + 10);
+		}
+		having = Model.having("SUM(e.qty) > ? AND COUNT(e.id) < ?", 10, 20);
+		sub = Model.sub("SELECT s.id FROM Sample s WHERE s.qty > ? AND s.grp = ?",
+				10, "g1");
+		aggregate = new Model.Aggregate("grp")
+				.with("total", "SUM(qty)")
+				.with("rows", "COUNT(id)");
+		row = new Object[] { "g1", 100L, 10L };
+		rows = new Object[AGGREGATES][];
+		for (int i = 0; i < AGGREGATES; i++) {
+			rows[i] = new Object[] { "g" + i % 16, (long) i, 10L };
+		}
+		indexedQuery = manager.createQuery(
+				"SELECT e FROM Sample e WHERE e.qty > ?1 AND e.grp = ?2");
+		namedQuery = manager.createQuery(
+				"SELECT e FROM Sample e WHERE e.qty > :qty AND e.grp = :grp");
+		namedParams = new HashMap<>();
+		namedParams.put("qty", 10);
+		namedParams.put("grp", "g1");
+		samples = new Sample[IDS];
+		for (int i = 0; i < IDS; i++) {
+			samples[i] = new Sample(i + 1L);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		manager.close();
+		factory.close();
+	}
+
+	@Benchmark
+	public Object create() {
+		return factory.create(Sample.class);
+	}
+
+	@Benchmark
+	public Object criteriaBuilderIndexed() {
+		return model.new CriteriaBuilder(indexed, 1, 2).params;
+	}
+
+	@Benchmark
+	public Object criteriaBuilderNamed() {
+		return model.new CriteriaBuilder(named).params;
+	}
+
+	@Benchmark
+	public Object logicBuildIndexed() {
+		StringBuilder statement = new StringBuilder();
+		indexed.build(model, statement, null, new ArrayList<>());
+		return statement;
+	}
+
+	@Benchmark
+	public Object logicBuildNamed() {
+		StringBuilder statement = new StringBuilder();
+		named.build(model, statement, new HashMap<>(), null);
+		return statement;
+	}
+
+	@Benchmark
+	public Object logicBuildWideIndexed() {
+		StringBuilder statement = new StringBuilder();
+		wideIndexed.build(model, statement, null, new ArrayList<>());
+		return statement;
+	}
+
+	@Benchmark
+	public Object logicBuildWideNamed() {
+		StringBuilder statement = new StringBuilder();
+		wideNamed.build(model, statement, new HashMap<>(), null);
+		return statement;
+	}
+
+	@Benchmark
+	public Object havingIndexed() {
+		StringBuilder statement = new StringBuilder();
+		having.build(model, statement, null, new ArrayList<>());
+		return statement;
+	}
+
+	@Benchmark
+	public Object subIndexed() {
+		StringBuilder statement = new StringBuilder();
+		sub.build(model, statement, null, new ArrayList<>());
+		return statement;
+	}
+
+	@Benchmark
+	public Object factoryBuildCriteria() {
+		return factory.build(model, indexed, null, new ArrayList<>());
+	}
+
+	@Benchmark
+	public Object factoryBuildStatement() {
+		return factory.build(model, new StringBuilder(), 10,
+				Model.order("qty DESC"));
+	}
+
+	@Benchmark
+	public Object injectIndexed() {
+		return factory.inject(indexedQuery, 10, "g1");
+	}
+
+	@Benchmark
+	public Object injectNamed() {
+		return factory.inject(namedQuery, namedParams);
+	}
+
+	/**
+	 * เรียก ID จาก {@link Sample} Object ทีละตัว (ใช้ร่วมกับ
+	 * <code>-prof gc</code> เพื่อตรวจสอบว่าไม่มีการจองหน่วยความจำต่อ ID)
+	 */
+	@Benchmark
+	@OperationsPerInvocation(IDS)
+	public void id(Blackhole blackhole) {
+		for (Sample sample : samples) {
+			blackhole.consume(factory.id(Sample.class, sample));
+		}
+	}
+
+	@Benchmark
+	public Object aggregateResult() {
+		return aggregate.result(row).get("total");
+	}
+
+	/**
+	 * แปลงผลลัพธ์ของ {@link Model.Aggregate} 1,000,000 แถวต่อครั้ง
+	 * (ใช้ร่วมกับ <code>-prof gc</code> เพื่อดูการจองหน่วยความจำต่อแถว)
+	 */
+	@Benchmark
+	@OperationsPerInvocation(AGGREGATES)
+	public void aggregateResults(Blackhole blackhole) {
+		for (Object[] result : rows) {
+			blackhole.consume(aggregate.result(result));
+		}
+	}
+}
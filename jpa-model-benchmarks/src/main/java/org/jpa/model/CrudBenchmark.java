@@ -0,0 +1,299 @@
+package org.jpa.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Class <code>CrudBenchmark</code>
+ * สำหรับวัดประสิทธิภาพการเพิ่ม ค้นหา ปรับปรุง และลบข้อมูลผ่าน {@link Model}
+ * กับฐานข้อมูล H2 แบบ In-Memory ด้วย EclipseLink
+ *
+ * @since JDK 1.8, jpa-model 2.0
+ * @version 1.0.0
+ * @author เสือไฮ่
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudBenchmark {
+	/**
+	 * จำนวนข้อมูลตั้งต้น
+	 */
+	public static final int ROWS = 10_000;
+	/**
+	 * จำนวนคำสั่งในแต่ละครั้งของ {@link #updates()}
+	 */
+	public static final int UPDATES = 16;
+	private Model.Factory.UnitName factory;
+	private Model<Sample> model;
+	/**
+	 * Primary Key ของข้อมูลที่เพิ่มระหว่างการวัด
+	 */
+	private final AtomicLong sequence = new AtomicLong(ROWS);
+	private Sample entity;
+
+	@Setup
+	public void setup() {
+		factory = new Model.Factory.UnitName("benchmark");
+		model = factory.create(Sample.class);
+		List<Sample> samples = new ArrayList<>(ROWS);
+		for (long id = 1; id <= ROWS; id++) {
+			samples.add(new Sample(id));
+		}
+		if (!model.add(samples))
+			throw new IllegalStateException("Cannot add samples.");
+		entity = model.find(1L);
+		model.prepare(new Model.Criteria("grp", "g0")
+				.and("qty", ">=", 900), Model.order("id"));
+	}
+
+	@TearDown
+	public void tearDown() {
+		factory.close();
+	}
+
+	@Benchmark
+	public Object add() {
+		return model.add(new Sample(sequence.incrementAndGet()));
+	}
+
+	@Benchmark
+	public Object find() {
+		return model.find(ThreadLocalRandom.current().nextLong(1, ROWS + 1));
+	}
+
+	@Benchmark
+	public Object findPerCall(PerCall perCall) {
+		return perCall.model.find(
+				ThreadLocalRandom.current().nextLong(1, ROWS + 1));
+	}
+
+	@Benchmark
+	public Object finds() {
+		return model.finds(new Model.Criteria(
+				"grp", "g" + ThreadLocalRandom.current().nextInt(16))
+						.and("qty", "<", 100));
+	}
+
+	@Benchmark
+	public Object findsPrepared() {
+		return model.finds(new Model.Criteria(
+				"grp", "g" + ThreadLocalRandom.current().nextInt(16))
+						.and("qty", ">=", 900), Model.order("id"));
+	}
+
+	@Benchmark
+	public Object findsReadOnly() {
+		return model.finds(new Model.Criteria(
+				"grp", "g" + ThreadLocalRandom.current().nextInt(16))
+						.and("qty", "<", 100), Model.readOnly());
+	}
+
+	@Benchmark
+	public Object count() {
+		return model.count("grp", "g" + ThreadLocalRandom.current().nextInt(16));
+	}
+
+	@Benchmark
+	public Object counts() {
+		return model.counts("grp");
+	}
+
+	@Benchmark
+	public long parallelScan(Scan scan) {
+		return model.parallelScan(scan.partitions, sample -> {});
+	}
+
+	@Benchmark
+	public Object parallelScanNested(Scan scan, Nested nested) {
+		return factory.async(
+				() -> model.parallelScan(scan.partitions, sample -> {}))
+				.join();
+	}
+
+	@Benchmark
+	public Object put() {
+		entity.qty++;
+		return model.put(entity);
+	}
+
+	@Benchmark
+	public int putSeries() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		return model.put(new Model.Pair.Series("qty", random.nextInt(1000)),
+				new Model.Criteria("id", 1L + random.nextInt(ROWS)));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(UPDATES)
+	public Object updates() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Model<Sample>.Updates updates = model.updates();
+		for (int i = 0; i < UPDATES; i++) {
+			updates.add(new Model.Pair.Series("qty", random.nextInt(1000)),
+					new Model.Criteria("id", 1L + random.nextInt(ROWS)));
+		}
+		return updates.execute();
+	}
+
+	@Benchmark
+	public Object putAll(Batch batch) {
+		for (Sample sample : batch.samples) {
+			sample.qty++;
+		}
+		return model.put(batch.samples);
+	}
+
+	@Benchmark
+	public Object del(Staged staged) {
+		return model.del(staged.id);
+	}
+
+	/**
+	 * Class <code>Batch</code> สำหรับเก็บข้อมูลที่จะถูกปรับปรุงพร้อมกันใน
+	 * {@link CrudBenchmark#putAll(Batch)} โดยวัดทั้งแบบคัดลอกค่ากลับทุก Field
+	 * และแบบ {@link Model.Factory#lean(boolean)}
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 */
+	@State(Scope.Benchmark)
+	public static class Batch {
+		/**
+		 * จำนวนข้อมูลที่ปรับปรุงพร้อมกัน
+		 */
+		public static final int SIZE = 100;
+		@Param({ "false", "true" })
+		public boolean lean;
+		private List<Sample> samples;
+
+		@Setup
+		public void setup(CrudBenchmark benchmark) {
+			benchmark.factory.lean(lean);
+			Object[] id = new Object[SIZE];
+			for (int i = 0; i < SIZE; i++) {
+				id[i] = i + 1L;
+			}
+			samples = benchmark.model.finds(id);
+		}
+	}
+
+	/**
+	 * Class <code>Staged</code> สำหรับเพิ่มข้อมูลที่จะถูกลบ
+	 * ก่อนการเรียก {@link CrudBenchmark#del(Staged)} แต่ละครั้ง
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 */
+	@State(Scope.Thread)
+	public static class Staged {
+		/**
+		 * Primary Key ของข้อมูลที่จะถูกลบ
+		 */
+		private Long id;
+
+		@Setup(Level.Invocation)
+		public void stage(CrudBenchmark benchmark) {
+			Sample sample = new Sample(benchmark.sequence.incrementAndGet());
+			benchmark.model.add(sample);
+			id = sample.id;
+		}
+	}
+
+	/**
+	 * Class <code>PerCall</code> สำหรับวัด {@link CrudBenchmark#find()}
+	 * แบบเดิมที่สร้าง {@link EntityManagerFactory} ใหม่ทุกครั้งที่เรียกใช้
+	 * เพื่อเทียบกับ {@link Model.Factory.UnitName} ที่ใช้
+	 * {@link EntityManagerFactory} ร่วมกัน
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 */
+	@State(Scope.Benchmark)
+	public static class PerCall {
+		private Model<Sample> model;
+
+		@Setup
+		@SuppressWarnings("unchecked")
+		public void setup(CrudBenchmark benchmark) {
+			model = new Model.Factory() {
+				@Override
+				public <R> R factory(
+						Function<EntityManagerFactory, R> function) {
+					EntityManagerFactory factory = Persistence
+							.createEntityManagerFactory("benchmark",
+									Collections.singletonMap(
+											"eclipselink.ddl-generation",
+											"none"));
+					try {
+						return function.apply(factory);
+					} finally {
+						factory.close();
+					}
+				}
+			}.create(Sample.class);
+		}
+	}
+
+	/**
+	 * Class <code>Nested</code> สำหรับจำกัดคำสั่งแบบ Asynchronous ให้ทำงาน
+	 * ได้ทีละคำสั่งใน {@link CrudBenchmark#parallelScanNested(Scan, Nested)}
+	 * ซึ่งเรียก {@link Model#parallelScan(int, java.util.function.Consumer)}
+	 * จากใน {@link Model.Factory#async(java.util.function.Supplier)}
+	 * (สิทธิ์ทั้งหมดถูกถือโดยคำสั่งที่เรียก)
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 */
+	@State(Scope.Benchmark)
+	public static class Nested {
+		@Setup
+		public void setup(CrudBenchmark benchmark) {
+			benchmark.factory.concurrency(1);
+		}
+	}
+
+	/**
+	 * Class <code>Scan</code> สำหรับกำหนดจำนวนช่วงที่ใช้แบ่งข้อมูลใน
+	 * {@link CrudBenchmark#parallelScan(Scan)} เพื่อเทียบกับการอ่านแบบช่วงเดียว
+	 *
+	 * @since JDK 1.8, jpa-model 2.0
+	 * @version 1.0.0
+	 * @author เสือไฮ่
+	 */
+	@State(Scope.Benchmark)
+	public static class Scan {
+		@Param({ "1", "4" })
+		public int partitions;
+	}
+}
@@ -0,0 +1,57 @@
+package org.jpa.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+/**
+ * Class <code>Sample</code> เป็น {@link Entity} Class
+ * สำหรับใช้ในการวัดประสิทธิภาพการทำงานของ {@link Model}
+ *
+ * @since JDK 1.8, jpa-model 2.0
+ * @version 1.0.0
+ * @author เสือไฮ่
+ */
+@Entity
+public class Sample {
+	/**
+	 * Primary Key
+	 */
+	@Id
+	public Long id;
+	/**
+	 * ชื่อ
+	 */
+	public String name;
+	/**
+	 * กลุ่ม
+	 */
+	public String grp;
+	/**
+	 * จำนวน
+	 */
+	public int qty;
+	/**
+	 * Version สำหรับ Optimistic Locking
+	 */
+	@Version
+	public int version;
+
+	/**
+	 * สร้าง {@link Sample} Object
+	 */
+	public Sample() {}
+
+	/**
+	 * สร้าง {@link Sample} Object ตามลำดับที่กำหนด
+	 *
+	 * @param id
+	 *            {@link #id}
+	 */
+	public Sample(long id) {
+		this.id = id;
+		this.name = "n" + id;
+		this.grp = "g" + id % 16;
+		this.qty = (int) (id % 1000);
+	}
+}